@@ -0,0 +1,13 @@
+package com.parkmate.authservice.admin.application;
+
+import com.parkmate.authservice.admin.domain.ImportFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface AccountImportService {
+
+    void importUsers(InputStream inputStream, ImportFormat format, OutputStream outputStream) throws IOException;
+
+    void importHosts(InputStream inputStream, ImportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,316 @@
+package com.parkmate.authservice.admin.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkmate.authservice.admin.domain.ImportFormat;
+import com.parkmate.authservice.admin.domain.ImportRowStatus;
+import com.parkmate.authservice.admin.dto.response.ImportRowResultDto;
+import com.parkmate.authservice.admin.dto.response.ImportSummaryDto;
+import com.parkmate.authservice.admin.infrastructure.AccountImportJdbcRepository;
+import com.parkmate.authservice.admin.infrastructure.AccountImportJdbcRepository.ImportedAccount;
+import com.parkmate.authservice.admin.infrastructure.ImportRecordReader;
+import com.parkmate.authservice.admin.infrastructure.ImportRecordReader.ImportLine;
+import com.parkmate.authservice.admin.vo.request.HostImportRecordVo;
+import com.parkmate.authservice.admin.vo.request.ImportRecordVo;
+import com.parkmate.authservice.admin.vo.request.UserImportRecordVo;
+import com.parkmate.authservice.authhost.dto.request.feign.HostRegisterRequestForHostServiceDto;
+import com.parkmate.authservice.authuser.dto.request.feign.UserRegisterRequestForUserServiceDto;
+import com.parkmate.authservice.common.config.AdminProperties;
+import com.parkmate.authservice.common.exception.BaseException;
+import com.parkmate.authservice.common.generator.UUIDGenerator;
+import com.parkmate.authservice.common.roletype.RoleType;
+import com.parkmate.authservice.common.security.password.BoundedPasswordEncoder;
+import com.parkmate.authservice.outbox.application.OutboxService;
+import com.parkmate.authservice.outbox.domain.OutboxEvent;
+import com.parkmate.authservice.outbox.domain.OutboxEventType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 대량 계정 가져오기.
+ * 본문을 한 줄씩 읽어 chunk 단위로 검증 → 해싱(백그라운드 해싱 풀에 병렬 제출) → 중복 조회 → JDBC 배치 INSERT 를 반복하고,
+ * chunk 가 끝날 때마다 행별 결과를 NDJSON 으로 내보낸다. 메모리에는 chunk 하나만 올라간다.
+ * 다른 서비스로의 등록 전파는 회원가입과 같이 같은 트랜잭션에 쓴 아웃박스 이벤트가 맡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountImportServiceImpl implements AccountImportService {
+
+    // 기존 시스템의 BCrypt 해시는 다시 해싱하지 않고 그대로 옮긴다 ({bcrypt} 접두사는 있어도 없어도 된다)
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^(\\{bcrypt})?\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    private static final int HASH_SUBMIT_MAX_RETRIES = 50;
+    private static final long HASH_SUBMIT_RETRY_DELAY_MILLIS = 100;
+    private static final byte NEW_LINE = '\n';
+
+    private final AccountImportJdbcRepository accountImportJdbcRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final OutboxService outboxService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AdminProperties adminProperties;
+
+    @Override
+    public void importUsers(InputStream inputStream, ImportFormat format, OutputStream outputStream) throws IOException {
+        runImport(RoleType.USER, UserImportRecordVo.class, inputStream, format, outputStream);
+    }
+
+    @Override
+    public void importHosts(InputStream inputStream, ImportFormat format, OutputStream outputStream) throws IOException {
+        runImport(RoleType.HOST, HostImportRecordVo.class, inputStream, format, outputStream);
+    }
+
+    private <R extends ImportRecordVo> void runImport(RoleType roleType,
+                                                      Class<R> recordType,
+                                                      InputStream inputStream,
+                                                      ImportFormat format,
+                                                      OutputStream outputStream) throws IOException {
+
+        long startedAt = System.nanoTime();
+        int chunkSize = Math.max(adminProperties.getImportChunkSize(), 1);
+        Semaphore hashingPermits = new Semaphore(Math.max(adminProperties.getImportHashingConcurrency(), 1));
+        Map<ImportRowStatus, Long> counts = new EnumMap<>(ImportRowStatus.class);
+
+        ImportRecordReader<R> reader = new ImportRecordReader<>(inputStream, format, recordType, objectMapper);
+        List<ImportLine<R>> chunk = new ArrayList<>(chunkSize);
+
+        ImportLine<R> line;
+        while ((line = reader.next()) != null) {
+            chunk.add(line);
+            if (chunk.size() >= chunkSize) {
+                writeResults(processChunk(roleType, chunk, hashingPermits), counts, outputStream);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeResults(processChunk(roleType, chunk, hashingPermits), counts, outputStream);
+        }
+
+        ImportSummaryDto summary = ImportSummaryDto.of(counts, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        writeLine(summary, outputStream);
+        outputStream.flush();
+        log.info("계정 가져오기 완료 - 대상: {}, 전체: {}, 성공: {}, 중복: {}, 오류: {}, 실패: {}, 소요: {}ms",
+                roleType, summary.getTotal(), summary.getImported(), summary.getDuplicate(),
+                summary.getInvalid(), summary.getFailed(), summary.getElapsedMillis());
+    }
+
+    private <R extends ImportRecordVo> List<ImportRowResultDto> processChunk(RoleType roleType,
+                                                                             List<ImportLine<R>> chunk,
+                                                                             Semaphore hashingPermits) {
+
+        ImportRowResultDto[] results = new ImportRowResultDto[chunk.size()];
+
+        // ==== 1. 검증 + 해싱 제출 ====
+        List<CompletableFuture<String>> hashes = new ArrayList<>(chunk.size());
+        Set<String> chunkEmails = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportLine<R> line = chunk.get(i);
+            String rejection = validate(line);
+            if (rejection != null) {
+                String email = line.record() != null ? line.record().getEmail() : null;
+                results[i] = ImportRowResultDto.of(line.lineNumber(), email, ImportRowStatus.INVALID, rejection);
+                hashes.add(null);
+                continue;
+            }
+            if (!chunkEmails.add(line.record().getEmail())) {
+                results[i] = ImportRowResultDto.of(line.lineNumber(), line.record().getEmail(), ImportRowStatus.DUPLICATE, "파일 안에서 중복된 이메일입니다.");
+                hashes.add(null);
+                continue;
+            }
+            hashes.add(hash(line.record().getPassword(), hashingPermits));
+        }
+
+        // ==== 2. 해싱 결과 수집 ====
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<String> encodedPasswords = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (hashes.get(i) == null) {
+                continue;
+            }
+            try {
+                encodedPasswords.add(hashes.get(i).join());
+                pendingIndexes.add(i);
+            } catch (CompletionException e) {
+                ImportLine<R> line = chunk.get(i);
+                results[i] = ImportRowResultDto.of(line.lineNumber(), line.record().getEmail(), ImportRowStatus.FAILED, "비밀번호 해싱에 실패했습니다.");
+            }
+        }
+
+        // ==== 3. 이미 가입된 이메일 제외 ====
+        Set<String> existingEmails = accountImportJdbcRepository.findExistingEmails(
+                roleType,
+                pendingIndexes.stream().map(i -> chunk.get(i).record().getEmail()).toList()
+        );
+
+        List<Integer> insertIndexes = new ArrayList<>();
+        List<ImportedAccount> accounts = new ArrayList<>();
+        for (int p = 0; p < pendingIndexes.size(); p++) {
+            int i = pendingIndexes.get(p);
+            ImportLine<R> line = chunk.get(i);
+            if (existingEmails.contains(line.record().getEmail())) {
+                results[i] = ImportRowResultDto.of(line.lineNumber(), line.record().getEmail(), ImportRowStatus.DUPLICATE, "이미 존재하는 이메일입니다.");
+                continue;
+            }
+            insertIndexes.add(i);
+            accounts.add(new ImportedAccount(UUIDGenerator.generateUUID(), line.record().getEmail(), encodedPasswords.get(p)));
+        }
+
+        // ==== 4. 계정 + 아웃박스 이벤트 배치 INSERT (한 트랜잭션) ====
+        if (!accounts.isEmpty()) {
+            insert(roleType, chunk, insertIndexes, accounts, results);
+        }
+
+        return List.of(results);
+    }
+
+    private <R extends ImportRecordVo> void insert(RoleType roleType,
+                                                   List<ImportLine<R>> chunk,
+                                                   List<Integer> insertIndexes,
+                                                   List<ImportedAccount> accounts,
+                                                   ImportRowResultDto[] results) {
+        try {
+            // 배치 결과의 영향 행 수 대신, 같은 트랜잭션에서 다시 조회해 실제로 저장된 계정에만 아웃박스 이벤트를 쓴다
+            Set<String> insertedUuids = transactionTemplate.execute(status -> {
+                accountImportJdbcRepository.insertAccounts(roleType, accounts);
+                Set<String> confirmed = accountImportJdbcRepository.findInsertedUuids(roleType, accounts);
+                List<OutboxEvent> outboxEvents = new ArrayList<>();
+                for (int a = 0; a < accounts.size(); a++) {
+                    if (confirmed.contains(accounts.get(a).accountUuid())) {
+                        ImportRecordVo record = chunk.get(insertIndexes.get(a)).record();
+                        outboxEvents.add(toOutboxEvent(roleType, accounts.get(a).accountUuid(), record));
+                    }
+                }
+                accountImportJdbcRepository.insertOutboxEvents(outboxEvents);
+                return confirmed;
+            });
+
+            for (int a = 0; a < accounts.size(); a++) {
+                ImportLine<R> line = chunk.get(insertIndexes.get(a));
+                ImportedAccount account = accounts.get(a);
+                results[insertIndexes.get(a)] = insertedUuids.contains(account.accountUuid())
+                        ? ImportRowResultDto.imported(line.lineNumber(), account.email(), account.accountUuid())
+                        : ImportRowResultDto.of(line.lineNumber(), account.email(), ImportRowStatus.DUPLICATE, "이미 존재하는 이메일입니다.");
+            }
+        } catch (DataAccessException e) {
+            log.error("계정 가져오기 chunk 저장 실패 - 대상: {}, 행 수: {}", roleType, accounts.size(), e);
+            for (Integer i : insertIndexes) {
+                ImportLine<R> line = chunk.get(i);
+                results[i] = ImportRowResultDto.of(line.lineNumber(), line.record().getEmail(), ImportRowStatus.FAILED, "저장에 실패했습니다.");
+            }
+        }
+    }
+
+    private OutboxEvent toOutboxEvent(RoleType roleType, String accountUuid, ImportRecordVo record) {
+        if (roleType == RoleType.HOST) {
+            HostImportRecordVo host = (HostImportRecordVo) record;
+            HostRegisterRequestForHostServiceDto payload = HostRegisterRequestForHostServiceDto.builder()
+                    .hostUuid(accountUuid)
+                    .name(host.getName())
+                    .phoneNumber(host.getPhoneNumber())
+                    .bankName(host.getBankName())
+                    .accountNumber(host.getAccountNumber())
+                    .businessRegistrationNumber(host.getBusinessRegistrationNumber())
+                    .settlementCycle(host.getSettlementCycle())
+                    .build();
+            return outboxService.newEvent(OutboxEventType.HOST_REGISTERED, accountUuid, payload);
+        }
+        UserImportRecordVo user = (UserImportRecordVo) record;
+        UserRegisterRequestForUserServiceDto payload = UserRegisterRequestForUserServiceDto.of(
+                accountUuid,
+                user.getName(),
+                user.getPhoneNumber()
+        );
+        return outboxService.newEvent(OutboxEventType.USER_REGISTERED, accountUuid, payload);
+    }
+
+    private String validate(ImportLine<? extends ImportRecordVo> line) {
+        if (line.error() != null) {
+            return line.error();
+        }
+        Set<? extends ConstraintViolation<?>> violations = validator.validate(line.record());
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * 기존 BCrypt 해시는 그대로 쓰고, 평문만 로그인과 분리된 백그라운드 해싱 풀에 제출한다.
+     * 동시에 맡기는 작업 수를 hashingPermits 로 제한하고, 대기열이 가득 찬 경우 잠시 기다렸다가 다시 제출한다.
+     */
+    private CompletableFuture<String> hash(String password, Semaphore hashingPermits) {
+
+        if (BCRYPT_HASH.matcher(password).matches()) {
+            return CompletableFuture.completedFuture(password.startsWith(BCRYPT_PREFIX) ? password : BCRYPT_PREFIX + password);
+        }
+
+        try {
+            hashingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return passwordEncoder.encodeAsync(password)
+                        .whenComplete((encoded, error) -> hashingPermits.release());
+            } catch (BaseException e) {
+                if (attempt >= HASH_SUBMIT_MAX_RETRIES || !sleepBeforeRetry()) {
+                    hashingPermits.release();
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+        }
+    }
+
+    private boolean sleepBeforeRetry() {
+        try {
+            Thread.sleep(HASH_SUBMIT_RETRY_DELAY_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeResults(List<ImportRowResultDto> results,
+                              Map<ImportRowStatus, Long> counts,
+                              OutputStream outputStream) throws IOException {
+        for (ImportRowResultDto result : results) {
+            counts.merge(result.getStatus(), 1L, Long::sum);
+            writeLine(result, outputStream);
+        }
+        outputStream.flush();
+    }
+
+    private void writeLine(Object value, OutputStream outputStream) throws IOException {
+        outputStream.write(objectMapper.writeValueAsBytes(value));
+        outputStream.write(NEW_LINE);
+    }
+}
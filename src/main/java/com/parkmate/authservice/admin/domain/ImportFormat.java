@@ -0,0 +1,27 @@
+package com.parkmate.authservice.admin.domain;
+
+import com.parkmate.authservice.common.exception.BaseException;
+import com.parkmate.authservice.common.response.ResponseStatus;
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+
+    NDJSON, CSV;
+
+    public static final String NDJSON_VALUE = MediaType.APPLICATION_NDJSON_VALUE;
+    public static final String CSV_VALUE = "text/csv";
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            throw new BaseException(ResponseStatus.INVALID_REQUEST);
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return NDJSON;
+        }
+        if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+            return CSV;
+        }
+        throw new BaseException(ResponseStatus.INVALID_REQUEST);
+    }
+}
@@ -0,0 +1,6 @@
+package com.parkmate.authservice.admin.domain;
+
+public enum ImportRowStatus {
+
+    IMPORTED, DUPLICATE, INVALID, FAILED
+}
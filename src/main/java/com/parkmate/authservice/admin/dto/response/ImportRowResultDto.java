@@ -0,0 +1,51 @@
+package com.parkmate.authservice.admin.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.parkmate.authservice.admin.domain.ImportRowStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportRowResultDto {
+
+    private final String type = "ROW";
+    private long line;
+    private String email;
+    private ImportRowStatus status;
+    private String accountUuid;
+    private String message;
+
+    @Builder
+    private ImportRowResultDto(long line,
+                               String email,
+                               ImportRowStatus status,
+                               String accountUuid,
+                               String message) {
+        this.line = line;
+        this.email = email;
+        this.status = status;
+        this.accountUuid = accountUuid;
+        this.message = message;
+    }
+
+    public static ImportRowResultDto imported(long line, String email, String accountUuid) {
+        return ImportRowResultDto.builder()
+                .line(line)
+                .email(email)
+                .status(ImportRowStatus.IMPORTED)
+                .accountUuid(accountUuid)
+                .build();
+    }
+
+    public static ImportRowResultDto of(long line, String email, ImportRowStatus status, String message) {
+        return ImportRowResultDto.builder()
+                .line(line)
+                .email(email)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.parkmate.authservice.admin.dto.response;
+
+import com.parkmate.authservice.admin.domain.ImportRowStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class ImportSummaryDto {
+
+    private final String type = "SUMMARY";
+    private long total;
+    private long imported;
+    private long duplicate;
+    private long invalid;
+    private long failed;
+    private long elapsedMillis;
+
+    @Builder
+    private ImportSummaryDto(long total,
+                             long imported,
+                             long duplicate,
+                             long invalid,
+                             long failed,
+                             long elapsedMillis) {
+        this.total = total;
+        this.imported = imported;
+        this.duplicate = duplicate;
+        this.invalid = invalid;
+        this.failed = failed;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public static ImportSummaryDto of(Map<ImportRowStatus, Long> counts, long elapsedMillis) {
+        long imported = counts.getOrDefault(ImportRowStatus.IMPORTED, 0L);
+        long duplicate = counts.getOrDefault(ImportRowStatus.DUPLICATE, 0L);
+        long invalid = counts.getOrDefault(ImportRowStatus.INVALID, 0L);
+        long failed = counts.getOrDefault(ImportRowStatus.FAILED, 0L);
+        return ImportSummaryDto.builder()
+                .total(imported + duplicate + invalid + failed)
+                .imported(imported)
+                .duplicate(duplicate)
+                .invalid(invalid)
+                .failed(failed)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
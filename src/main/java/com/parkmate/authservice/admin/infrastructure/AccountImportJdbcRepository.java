@@ -0,0 +1,120 @@
+package com.parkmate.authservice.admin.infrastructure;
+
+import com.parkmate.authservice.common.roletype.RoleType;
+import com.parkmate.authservice.outbox.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대량 가져오기 전용 JDBC 배치 저장소. JPA 의 IDENTITY 전략은 INSERT 를 묶지 못하므로 이 경로만 JDBC 로 직접 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountImportJdbcRepository {
+
+    // 동시에 가입한 같은 이메일만 건너뛰고, 그 밖의 오류(길이 초과, NOT NULL 등)는 그대로 예외로 올린다.
+    // rewriteBatchedStatements 사용 시 행별 영향 행 수를 믿을 수 없으므로 실제 저장 여부는 findInsertedUuids 로 다시 확인한다
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO auth_user
+                (user_uuid, email, password, login_type, social_provider, account_locked, created_at, updated_at)
+            VALUES (?, ?, ?, 'NORMAL', 'NONE', false, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private static final String INSERT_HOST_SQL = """
+            INSERT INTO auth_host
+                (host_uuid, email, password, account_locked, created_at, updated_at)
+            VALUES (?, ?, ?, false, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private static final String INSERT_OUTBOX_SQL = """
+            INSERT INTO auth_outbox
+                (event_id, event_type, aggregate_uuid, payload, status, attempts, next_attempt_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Set<String> findExistingEmails(RoleType roleType, Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        String sql = "SELECT email FROM " + tableOf(roleType) + " WHERE email IN (:emails)";
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(sql, Map.of("emails", emails), String.class));
+    }
+
+    public void insertAccounts(RoleType roleType, List<ImportedAccount> accounts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = accounts.stream()
+                .map(account -> new Object[]{account.accountUuid(), account.email(), account.encodedPassword(), now, now})
+                .toList();
+        jdbcTemplate.batchUpdate(roleType == RoleType.HOST ? INSERT_HOST_SQL : INSERT_USER_SQL, rows);
+    }
+
+    /**
+     * 방금 INSERT 한 계정 중 실제로 저장된 uuid. 같은 트랜잭션 안에서 호출해야 한다.
+     * uuid 와 이메일이 모두 일치하는 행만 저장된 것으로 본다.
+     */
+    public Set<String> findInsertedUuids(RoleType roleType, List<ImportedAccount> accounts) {
+        if (accounts.isEmpty()) {
+            return Set.of();
+        }
+        String uuidColumn = roleType == RoleType.HOST ? "host_uuid" : "user_uuid";
+        String sql = "SELECT " + uuidColumn + " AS uuid, email FROM " + tableOf(roleType) + " WHERE " + uuidColumn + " IN (:uuids)";
+        Map<String, String> emailByUuid = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                sql,
+                Map.of("uuids", accounts.stream().map(ImportedAccount::accountUuid).toList()),
+                (RowCallbackHandler) rs -> emailByUuid.put(rs.getString("uuid"), rs.getString("email"))
+        );
+
+        Set<String> inserted = new HashSet<>();
+        for (ImportedAccount account : accounts) {
+            if (account.email().equals(emailByUuid.get(account.accountUuid()))) {
+                inserted.add(account.accountUuid());
+            }
+        }
+        return inserted;
+    }
+
+    public void insertOutboxEvents(List<OutboxEvent> outboxEvents) {
+        if (outboxEvents.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = outboxEvents.stream()
+                .map(outboxEvent -> new Object[]{
+                        outboxEvent.getEventId(),
+                        outboxEvent.getEventType().name(),
+                        outboxEvent.getAggregateUuid(),
+                        outboxEvent.getPayload(),
+                        outboxEvent.getStatus().name(),
+                        outboxEvent.getAttempts(),
+                        Timestamp.valueOf(outboxEvent.getNextAttemptAt()),
+                        now,
+                        now
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, rows);
+    }
+
+    private String tableOf(RoleType roleType) {
+        return roleType == RoleType.HOST ? "auth_host" : "auth_user";
+    }
+
+    public record ImportedAccount(String accountUuid, String email, String encodedPassword) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.parkmate.authservice.admin.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkmate.authservice.admin.domain.ImportFormat;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 본문을 한 줄씩 읽어 행 단위로 변환한다. 본문 전체를 메모리에 올리지 않는다.
+ * NDJSON 은 한 줄이 JSON 객체 하나, CSV 는 첫 줄이 헤더(필드명)이며 한 행이 여러 줄에 걸치는 값은 지원하지 않는다.
+ */
+public class ImportRecordReader<R> {
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final Class<R> recordType;
+    private final ObjectMapper objectMapper;
+
+    private List<String> csvHeader;
+    private long lineNumber;
+
+    public ImportRecordReader(InputStream inputStream,
+                              ImportFormat format,
+                              Class<R> recordType,
+                              ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.format = format;
+        this.recordType = recordType;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 행을 읽는다. 본문 끝이면 null. 변환에 실패한 행은 error 를 채워 반환하고 다음 행은 계속 읽을 수 있다.
+     */
+    public ImportLine<R> next() throws IOException {
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == ImportFormat.CSV && csvHeader == null) {
+                csvHeader = splitCsvLine(stripBom(line)).stream().map(String::trim).toList();
+                continue;
+            }
+            return parse(line);
+        }
+        return null;
+    }
+
+    private ImportLine<R> parse(String line) {
+        try {
+            R record = format == ImportFormat.NDJSON
+                    ? objectMapper.readValue(stripBom(line), recordType)
+                    : objectMapper.convertValue(toCsvFields(line), recordType);
+            return new ImportLine<>(lineNumber, record, null);
+        } catch (Exception e) {
+            return new ImportLine<>(lineNumber, null, "행을 해석할 수 없습니다.");
+        }
+    }
+
+    private Map<String, String> toCsvFields(String line) {
+        List<String> values = splitCsvLine(line);
+        if (values.size() != csvHeader.size()) {
+            throw new IllegalArgumentException("CSV 열 개수가 헤더와 다릅니다.");
+        }
+        Map<String, String> fields = new HashMap<>(values.size() * 2);
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(csvHeader.get(i), values.get(i));
+        }
+        return fields;
+    }
+
+    // 따옴표로 감싼 값 안의 쉼표와 "" 이스케이프를 처리
+    static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private String stripBom(String line) {
+        return lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    public record ImportLine<R>(long lineNumber, R record, String error) {
+    }
+}
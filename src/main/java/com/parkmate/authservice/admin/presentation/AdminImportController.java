@@ -0,0 +1,60 @@
+package com.parkmate.authservice.admin.presentation;
+
+import com.parkmate.authservice.admin.application.AccountImportService;
+import com.parkmate.authservice.admin.domain.ImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/admin/import")
+@RequiredArgsConstructor
+public class AdminImportController {
+
+    private final AccountImportService accountImportService;
+
+    @Operation(
+            summary = "일반 사용자 대량 가져오기",
+            description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv, 첫 줄 헤더) 본문의 계정을 가져옵니다. 필드: email, password, name, phoneNumber. password 에는 평문 또는 기존 BCrypt 해시를 넣을 수 있습니다. 행별 결과를 NDJSON 으로 순서대로 내보내고 마지막 줄에 요약을 보냅니다. X-Admin-Api-Key 헤더가 필요합니다.",
+            tags = {"AUTH-ADMIN-SERVICE"}
+    )
+    @PostMapping(
+            value = "/users",
+            consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public ResponseEntity<StreamingResponseBody> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                             HttpServletRequest request) {
+
+        ImportFormat format = ImportFormat.fromContentType(contentType);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> accountImportService.importUsers(request.getInputStream(), format, outputStream));
+    }
+
+    @Operation(
+            summary = "호스트 대량 가져오기",
+            description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv, 첫 줄 헤더) 본문의 호스트 계정을 가져옵니다. 필드: email, password, name, phoneNumber, bankName, accountNumber, businessRegistrationNumber, settlementCycle. 사업자등록번호 외부 검증은 하지 않습니다. X-Admin-Api-Key 헤더가 필요합니다.",
+            tags = {"AUTH-ADMIN-SERVICE"}
+    )
+    @PostMapping(
+            value = "/hosts",
+            consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public ResponseEntity<StreamingResponseBody> importHosts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                             HttpServletRequest request) {
+
+        ImportFormat format = ImportFormat.fromContentType(contentType);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> accountImportService.importHosts(request.getInputStream(), format, outputStream));
+    }
+}
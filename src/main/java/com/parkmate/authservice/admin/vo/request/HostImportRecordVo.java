@@ -0,0 +1,59 @@
+package com.parkmate.authservice.admin.vo.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HostImportRecordVo implements ImportRecordVo {
+
+    @NotBlank(message = "이메일은 필수 입력값입니다.")
+    @Email(message = "이메일 형식이 올바르지 않습니다.")
+    @Size(max = 100, message = "이메일은 100자 이내여야 합니다.")
+    private String email;
+
+    @NotBlank(message = "이름은 필수 입력값입니다.")
+    @Size(min = 2, max = 50, message = "이름은 2~50자 이내여야 합니다.")
+    private String name;
+
+    // 기존 시스템의 계정을 옮기는 용도이므로 현재 비밀번호 규칙은 적용하지 않는다
+    @NotBlank(message = "비밀번호는 필수 입력값입니다.")
+    private String password;
+
+    @NotBlank(message = "전화번호는 필수 입력값입니다.")
+    @Pattern(
+            regexp = "^010\\d{8}$",
+            message = "전화번호는 010으로 시작하는 11자리 숫자여야 합니다."
+    )
+    private String phoneNumber;
+
+    @NotBlank(message = "은행 이름은 필수 입력값입니다.")
+    @Size(min = 2, max = 50, message = "은행 이름은 2~50자 이내여야 합니다.")
+    private String bankName;
+
+    @NotBlank(message = "계좌번호는 필수 입력값입니다.")
+    @Pattern(
+            regexp = "^[0-9-]{9,30}$",
+            message = "계좌번호는 숫자와 '-'만 포함할 수 있으며 9~30자여야 합니다."
+    )
+    private String accountNumber;
+
+    @NotBlank(message = "사업자등록번호는 필수 입력값입니다.")
+    @Pattern(
+            regexp = "^\\d{10}$",
+            message = "사업자등록번호는 숫자 10자리여야 합니다."
+    )
+    private String businessRegistrationNumber;
+
+    private int settlementCycle;
+
+    @JsonIgnore
+    @AssertTrue(message = "정산 주기는 15일 또는 30일만 가능합니다.")
+    public boolean isValidSettlementCycle() {
+        return settlementCycle == 15 || settlementCycle == 30;
+    }
+}
@@ -0,0 +1,11 @@
+package com.parkmate.authservice.admin.vo.request;
+
+/**
+ * 가져오기 한 행. 이메일과 비밀번호(평문 또는 기존 BCrypt 해시)는 계정 종류와 관계없이 공통
+ */
+public interface ImportRecordVo {
+
+    String getEmail();
+
+    String getPassword();
+}
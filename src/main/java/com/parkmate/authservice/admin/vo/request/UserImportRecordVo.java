@@ -0,0 +1,35 @@
+package com.parkmate.authservice.admin.vo.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserImportRecordVo implements ImportRecordVo {
+
+    @NotBlank(message = "이메일은 필수 입력값입니다.")
+    @Email(message = "이메일 형식이 올바르지 않습니다.")
+    @Size(max = 100, message = "이메일은 100자 이내여야 합니다.")
+    private String email;
+
+    @NotBlank(message = "이름은 필수 입력값입니다.")
+    @Size(min = 2, max = 50, message = "이름은 2~50자 이내여야 합니다.")
+    private String name;
+
+    // 기존 시스템의 계정을 옮기는 용도이므로 현재 비밀번호 규칙은 적용하지 않는다
+    @NotBlank(message = "비밀번호는 필수 입력값입니다.")
+    private String password;
+
+    @NotBlank(message = "전화번호는 필수 입력값입니다.")
+    @Pattern(
+            regexp = "^010\\d{8}$",
+            message = "전화번호는 010으로 시작하는 11자리 숫자여야 합니다."
+    )
+    private String phoneNumber;
+}
@@ -4,18 +4,28 @@ import com.parkmate.authservice.authhost.dto.request.HostLoginRequestDto;
 import com.parkmate.authservice.authhost.dto.request.HostRegisterRequestDto;
 import com.parkmate.authservice.authhost.dto.response.HostLoginResponseDto;
 import com.parkmate.authservice.authhost.vo.request.HostRegisterRequestVo;
+import com.parkmate.authservice.authuser.dto.response.SessionResponseDto;
+import com.parkmate.authservice.authuser.dto.response.TokenRefreshResponseDto;
+import com.parkmate.authservice.authuser.dto.response.VerificationCodeSendResponseDto;
+import java.util.List;
 
 public interface AuthHostService {
 
     HostLoginResponseDto login(HostLoginRequestDto hostLoginRequestDto);
 
-    void logout(String hostUuid);
+    TokenRefreshResponseDto refresh(String refreshToken);
+
+    void logout(String hostUuid, String authorizationHeader, String refreshToken);
+
+    List<SessionResponseDto> getSessions(String hostUuid);
+
+    void revokeSession(String hostUuid, String sessionId);
 
     void register(HostRegisterRequestVo hostRegisterRequestVo);
 
     boolean isEmailDuplicate(String email);
 
-    void sendVerificationCode(String email);
+    VerificationCodeSendResponseDto sendVerificationCode(String email);
 
     boolean verifyEmailCode(String email, String code);
 }
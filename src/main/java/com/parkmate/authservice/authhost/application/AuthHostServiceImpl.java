@@ -6,25 +6,34 @@ import com.parkmate.authservice.authhost.dto.request.HostRegisterRequestDto;
 import com.parkmate.authservice.authhost.dto.request.feign.HostRegisterRequestForHostServiceDto;
 import com.parkmate.authservice.authhost.dto.response.HostLoginResponseDto;
 import com.parkmate.authservice.authhost.infrastructure.AuthHostRepository;
-import com.parkmate.authservice.authhost.infrastructure.client.HostFeignClient;
+import com.parkmate.authservice.authhost.infrastructure.projection.AuthHostCredential;
 import com.parkmate.authservice.authhost.vo.request.HostRegisterRequestVo;
+import com.parkmate.authservice.authuser.dto.response.SessionResponseDto;
+import com.parkmate.authservice.authuser.dto.response.TokenRefreshResponseDto;
+import com.parkmate.authservice.authuser.dto.response.VerificationCodeSendResponseDto;
 import com.parkmate.authservice.common.exception.BaseException;
 import com.parkmate.authservice.common.generator.UUIDGenerator;
+import com.parkmate.authservice.common.generator.VerificationCodeGenerator;
 import com.parkmate.authservice.common.mail.MailService;
+import com.parkmate.authservice.common.principal.PrincipalCache;
+import com.parkmate.authservice.common.principal.PrincipalSnapshot;
 import com.parkmate.authservice.common.redis.RedisService;
+import com.parkmate.authservice.common.redis.VerificationAttemptResult;
+import com.parkmate.authservice.common.redis.VerificationSendResult;
 import com.parkmate.authservice.common.response.ResponseStatus;
 import com.parkmate.authservice.common.roletype.RoleType;
-import com.parkmate.authservice.common.security.jwt.JwtProvider;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.parkmate.authservice.common.security.password.PasswordHashUpgrader;
+import com.parkmate.authservice.common.security.session.SessionTokenService;
+import com.parkmate.authservice.common.security.session.SessionTokenService.IssuedTokens;
+import com.parkmate.authservice.outbox.application.OutboxService;
+import com.parkmate.authservice.outbox.domain.OutboxEventType;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.Duration;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 public class AuthHostServiceImpl implements AuthHostService {
@@ -32,68 +41,91 @@ public class AuthHostServiceImpl implements AuthHostService {
     private final AuthHostRepository authHostRepository;
     private final PasswordEncoder passwordEncoder;
     private final RedisService redisService;
-    private final JwtProvider jwtProvider;
-    private final AuthenticationManager authenticationManager;
-    private final HostFeignClient hostFeignClient;
+    private final SessionTokenService sessionTokenService;
+    private final PasswordHashUpgrader passwordHashUpgrader;
+    private final PrincipalCache principalCache;
     private final BiznoVerificationService biznoVerificationService;
     private final MailService mailService;
+    private final VerificationCodeGenerator verificationCodeGenerator;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
 
-    private static final long REFRESH_TOKEN_EXPIRY_MILLIS = Duration.ofDays(7).toMillis();
     private static final int LOGIN_FAIL_LIMIT = 5;
 
     public AuthHostServiceImpl(
             AuthHostRepository authHostRepository,
             PasswordEncoder passwordEncoder,
             RedisService redisService,
-            JwtProvider jwtProvider,
-            HostFeignClient hostFeignClient,
+            SessionTokenService sessionTokenService,
+            PasswordHashUpgrader passwordHashUpgrader,
+            PrincipalCache principalCache,
             BiznoVerificationService biznoVerificationService,
-            @Qualifier("hostAuthenticationManager") AuthenticationManager authenticationManager,
-            MailService mailService) {
+            MailService mailService,
+            VerificationCodeGenerator verificationCodeGenerator,
+            OutboxService outboxService,
+            TransactionTemplate transactionTemplate) {
         this.authHostRepository = authHostRepository;
         this.passwordEncoder = passwordEncoder;
         this.redisService = redisService;
-        this.jwtProvider = jwtProvider;
-        this.hostFeignClient = hostFeignClient;
+        this.sessionTokenService = sessionTokenService;
+        this.passwordHashUpgrader = passwordHashUpgrader;
+        this.principalCache = principalCache;
         this.biznoVerificationService = biznoVerificationService;
-        this.authenticationManager = authenticationManager;
         this.mailService = mailService;
+        this.verificationCodeGenerator = verificationCodeGenerator;
+        this.outboxService = outboxService;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    @Transactional
     @Override
     public HostLoginResponseDto login(HostLoginRequestDto hostLoginRequestDto) {
 
-        AuthHost authHost = authHostRepository.findByEmail(hostLoginRequestDto.getEmail())
+        // 이 노드가 이미 잠김을 알고 있으면 DB 를 거치지 않고 거절한다.
+        // 비밀번호 검증에 어차피 DB 조회가 필요하므로 여기서는 L2(Redis) 왕복을 추가하지 않는다
+        Optional<PrincipalSnapshot> cachedPrincipal = principalCache.findLocalByEmail(RoleType.HOST, hostLoginRequestDto.getEmail());
+        if (cachedPrincipal.map(PrincipalSnapshot::isLocked).orElse(false)) {
+            throw new BaseException(ResponseStatus.AUTH_ACCOUNT_LOCKED);
+        }
+
+        // 비밀번호 해시는 캐시하지 않으므로 검증에는 DB 조회가 필요하다
+        AuthHostCredential authHost = authHostRepository.findCredentialByEmail(hostLoginRequestDto.getEmail())
                 .orElseThrow(() -> new BaseException(ResponseStatus.AUTH_HOST_NOT_FOUND));
 
+        if (cachedPrincipal.isEmpty()) {
+            principalCache.putLocal(authHost.toPrincipalSnapshot());
+        }
+
         if (authHost.isAccountLocked()) {
             throw new BaseException(ResponseStatus.AUTH_ACCOUNT_LOCKED);
         }
 
+        // 필요한 컬럼만 1회 조회 + 해시 1회 검증으로 인증을 끝낸다 (AuthenticationManager 를 거치면 조회·BCrypt 가 한 번 더 일어남)
         if (!hostLoginRequestDto.isPasswordMatch(authHost.getPassword(), passwordEncoder)) {
             handleFailedLogin(authHost);
             throw new BaseException(ResponseStatus.INVALID_AUTH_PASSWORD);
         }
 
-        redisService.resetLoginFailCount(authHost.getEmail(), RoleType.HOST);
-
-        authenticateHost(hostLoginRequestDto);
-
-        String accessToken = jwtProvider.generateAccessToken();
-        String refreshToken = jwtProvider.generateRefreshToken();
-
-        redisService.saveRefreshToken(authHost.getHostUuid(), refreshToken, REFRESH_TOKEN_EXPIRY_MILLIS);
+        passwordHashUpgrader.upgradeIfNeeded(
+                RoleType.HOST,
+                authHost.getEmail(),
+                authHost.getHostUuid(),
+                authHost.getPassword(),
+                hostLoginRequestDto.getPassword(),
+                newHash -> authHostRepository.updatePassword(authHost.getId(), newHash)
+        );
 
-        return HostLoginResponseDto.of(authHost.getHostUuid(), accessToken, refreshToken);
+        IssuedTokens tokens = sessionTokenService.startLoginSession(RoleType.HOST, authHost.getHostUuid(), authHost.getEmail());
+        return HostLoginResponseDto.of(authHost.getHostUuid(), tokens.accessToken(), tokens.refreshToken());
     }
 
-    private void handleFailedLogin(AuthHost authHost) {
+    private void handleFailedLogin(AuthHostCredential authHost) {
         int failCount = redisService.incrementLoginFailCount(authHost.getEmail(), RoleType.HOST);
 
         if (shouldLockAccount(failCount)) {
-            authHost.lockAccount();
-            authHostRepository.save(authHost);
+            // 조건부 UPDATE 한 번으로 잠금. 실제로 잠근 요청만 캐시 무효화를 전파한다
+            if (authHostRepository.lockAccountIfUnlocked(authHost.getEmail()) > 0) {
+                principalCache.invalidate(RoleType.HOST, authHost.getEmail(), authHost.getHostUuid());
+            }
             throw new BaseException(ResponseStatus.AUTH_ACCOUNT_LOCKED);
         }
     }
@@ -102,13 +134,26 @@ public class AuthHostServiceImpl implements AuthHostService {
         return currentFailCount >= LOGIN_FAIL_LIMIT;
     }
 
-    @Transactional
     @Override
-    public void logout(String hostUuid) {
-        redisService.deleteRefreshToken(hostUuid);
+    public TokenRefreshResponseDto refresh(String refreshToken) {
+        return sessionTokenService.refresh(RoleType.HOST, refreshToken);
+    }
+
+    @Override
+    public void logout(String hostUuid, String authorizationHeader, String refreshToken) {
+        sessionTokenService.logout(RoleType.HOST, hostUuid, authorizationHeader, refreshToken);
+    }
+
+    @Override
+    public List<SessionResponseDto> getSessions(String hostUuid) {
+        return sessionTokenService.getSessions(RoleType.HOST, hostUuid);
+    }
+
+    @Override
+    public void revokeSession(String hostUuid, String sessionId) {
+        sessionTokenService.revokeSession(RoleType.HOST, hostUuid, sessionId);
     }
 
-    @Transactional
     @Override
     public void register(HostRegisterRequestVo hostRegisterRequestVo) {
 
@@ -117,7 +162,8 @@ public class AuthHostServiceImpl implements AuthHostService {
             throw new BaseException(ResponseStatus.INVALID_SETTLEMENT_CYCLE);
         }
 
-        boolean isVerified = redisService.verifyEmailCode(
+        // 인증코드는 일치하는 순간 삭제되어 한 번만 사용할 수 있다
+        boolean isVerified = redisService.consumeVerificationCode(
                 hostRegisterRequestVo.getEmail(),
                 hostRegisterRequestVo.getVerificationCode(),
                 RoleType.HOST
@@ -131,38 +177,22 @@ public class AuthHostServiceImpl implements AuthHostService {
 
         String hostUuid = UUIDGenerator.generateUUID();
 
+        // 해싱은 커넥션을 잡기 전에 끝낸다. host-service 전송은 같은 트랜잭션에 기록한 아웃박스 이벤트로 비동기 처리
         HostRegisterRequestDto hostRegisterRequestDto = HostRegisterRequestDto.from(hostRegisterRequestVo);
         AuthHost host = hostRegisterRequestDto.toEntity(hostUuid, passwordEncoder);
+        HostRegisterRequestForHostServiceDto feignDto = HostRegisterRequestForHostServiceDto.of(
+                hostUuid,
+                hostRegisterRequestVo
+        );
 
         try {
-            authHostRepository.save(host);
+            transactionTemplate.executeWithoutResult(status -> {
+                authHostRepository.save(host);
+                outboxService.append(OutboxEventType.HOST_REGISTERED, hostUuid, feignDto);
+            });
         } catch (DataIntegrityViolationException e) {
             throw new BaseException(ResponseStatus.AUTH_EMAIL_ALREADY_EXISTS);
         }
-
-        try {
-            HostRegisterRequestForHostServiceDto feignDto = HostRegisterRequestForHostServiceDto.of(
-                    hostUuid,
-                    hostRegisterRequestVo
-            );
-
-            hostFeignClient.registerHost(feignDto);
-
-            redisService.deleteVerificationCode(hostRegisterRequestVo.getEmail(), RoleType.HOST);
-
-        } catch (Exception e) {
-            authHostRepository.deleteById(host.getId());
-            throw new BaseException(ResponseStatus.AUTH_HOST_SERVICE_ERROR);
-        }
-    }
-
-    private void authenticateHost(HostLoginRequestDto hostLoginRequestDto) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        hostLoginRequestDto.getEmail(), hostLoginRequestDto.getPassword()
-                )
-        );
-        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     @Transactional(readOnly = true)
@@ -171,41 +201,38 @@ public class AuthHostServiceImpl implements AuthHostService {
         return authHostRepository.existsByEmail(email);
     }
 
-    @Transactional
     @Override
-    public void sendVerificationCode(String email) {
+    public VerificationCodeSendResponseDto sendVerificationCode(String email) {
 
         RoleType roleType = RoleType.HOST;
 
-        String existingCode = redisService.getVerificationCode(email, roleType);
-        if (existingCode != null) {
-            throw new BaseException(ResponseStatus.VERIFICATION_CODE_ALREADY_SENT);
+        // 재발송 대기·발송 한도 확인과 코드 교체가 한 번의 스크립트로 처리되므로 동시에 요청해도 하나만 발송된다
+        String code = verificationCodeGenerator.generate();
+        VerificationSendResult result = redisService.saveVerificationCode(email, code, roleType);
+        if (!result.isSent()) {
+            return VerificationCodeSendResponseDto.from(result);
         }
 
-        String code = mailService.generateVerificationCode();
-        mailService.sendVerificationEmail(email, code);
-        redisService.saveVerificationCode(email, code, Duration.ofMinutes(3), roleType);
+        try {
+            mailService.sendVerificationEmail(email, code);
+        } catch (RuntimeException e) {
+            redisService.cancelVerificationCode(email, code, roleType);
+            throw e;
+        }
+        return VerificationCodeSendResponseDto.from(result);
     }
 
     @Override
     public boolean verifyEmailCode(String email, String code) {
 
-        if (redisService.isVerificationAttemptBlocked(email, RoleType.HOST)) {
+        VerificationAttemptResult result = redisService.attemptVerification(email, code, RoleType.HOST);
+
+        if (result == VerificationAttemptResult.BLOCKED) {
             throw new BaseException(ResponseStatus.VERIFICATION_ATTEMPT_BLOCKED);
         }
-
-        boolean isVerified = redisService.verifyEmailCode(email, code, RoleType.HOST);
-
-        if (!isVerified) {
-            int failCount = redisService.incrementVerificationAttemptFailCount(email, RoleType.HOST);
-            if (failCount > 5) {
-                redisService.blockVerificationAttempts(email, RoleType.HOST, Duration.ofMinutes(10));
-                throw new BaseException(ResponseStatus.VERIFICATION_ATTEMPT_BLOCKED);
-            }
+        if (result == VerificationAttemptResult.MISMATCHED) {
             throw new BaseException(ResponseStatus.INVALID_VERIFICATION_CODE_MISMATCH);
         }
-
-        redisService.resetVerificationAttemptFailCount(email, RoleType.HOST);
         return true;
     }
 }
\ No newline at end of file
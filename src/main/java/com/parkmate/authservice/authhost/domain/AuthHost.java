@@ -56,10 +56,6 @@ public class AuthHost extends BaseEntity implements UserDetails {
         return this.accountLocked;
     }
 
-    public void lockAccount() {
-        this.accountLocked = true;
-    }
-
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.emptyList();
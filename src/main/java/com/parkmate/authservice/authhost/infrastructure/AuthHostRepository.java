@@ -1,7 +1,15 @@
 package com.parkmate.authservice.authhost.infrastructure;
 
 import com.parkmate.authservice.authhost.domain.AuthHost;
+import com.parkmate.authservice.authhost.infrastructure.projection.AuthHostCredential;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 public interface AuthHostRepository extends JpaRepository<AuthHost, Long> {
@@ -9,4 +17,29 @@ public interface AuthHostRepository extends JpaRepository<AuthHost, Long> {
     Optional<AuthHost> findByEmail(String email);
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // ==================== 조회 전용 projection (영속성 컨텍스트·스냅샷 없이 필요한 컬럼만) ====================
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select h.id as id, h.hostUuid as hostUuid, h.email as email, h.password as password, h.accountLocked as accountLocked
+            from AuthHost h
+            where h.email = :email
+            """)
+    Optional<AuthHostCredential> findCredentialByEmail(@Param("email") String email);
+
+    // ==================== 부분 갱신 ====================
+
+    @Transactional
+    @Modifying
+    @Query("update AuthHost h set h.password = :password where h.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    /**
+     * 아직 잠기지 않은 계정만 잠근다. 동시에 여러 요청이 와도 1 을 받는 요청은 하나뿐이다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update AuthHost h set h.accountLocked = true where h.email = :email and h.accountLocked = false")
+    int lockAccountIfUnlocked(@Param("email") String email);
+}
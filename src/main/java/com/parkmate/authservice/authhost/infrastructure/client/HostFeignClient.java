@@ -1,13 +1,20 @@
 package com.parkmate.authservice.authhost.infrastructure.client;
 
 import com.parkmate.authservice.authhost.dto.request.feign.HostRegisterRequestForHostServiceDto;
+import com.parkmate.authservice.outbox.dto.OutboxBatchRequestDto;
+import com.parkmate.authservice.outbox.dto.OutboxBatchResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 @FeignClient(name = "host-service")
 public interface HostFeignClient {
 
     @PostMapping("/internal/hosts")
-    void registerHost(@RequestBody HostRegisterRequestForHostServiceDto hostRegisterRequestForHostServiceDto);
+    void registerHost(@RequestHeader("Idempotency-Key") String idempotencyKey,
+                      @RequestBody HostRegisterRequestForHostServiceDto hostRegisterRequestForHostServiceDto);
+
+    @PostMapping("/internal/hosts/batch")
+    OutboxBatchResponseDto registerHosts(@RequestBody OutboxBatchRequestDto<HostRegisterRequestForHostServiceDto> batchRequest);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.parkmate.authservice.authhost.infrastructure.projection;
+
+import com.parkmate.authservice.common.principal.PrincipalSnapshot;
+import com.parkmate.authservice.common.roletype.RoleType;
+
+/**
+ * 로그인 검증에 필요한 컬럼만 조회하는 projection
+ */
+public interface AuthHostCredential {
+
+    Long getId();
+
+    String getHostUuid();
+
+    String getEmail();
+
+    String getPassword();
+
+    boolean isAccountLocked();
+
+    default PrincipalSnapshot toPrincipalSnapshot() {
+        return PrincipalSnapshot.of(getHostUuid(), getEmail(), RoleType.HOST, isAccountLocked());
+    }
+}
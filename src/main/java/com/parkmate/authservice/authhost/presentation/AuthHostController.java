@@ -1,10 +1,18 @@
 package com.parkmate.authservice.authhost.presentation;
 
+import com.parkmate.authservice.authuser.dto.response.TokenRefreshResponseDto;
+import com.parkmate.authservice.authuser.dto.response.VerificationCodeSendResponseDto;
 import com.parkmate.authservice.authuser.vo.request.EmailDuplicateCheckRequestVo;
+import com.parkmate.authservice.authuser.vo.request.TokenRefreshRequestVo;
 import com.parkmate.authservice.authuser.vo.request.VerifyEmailCodeRequestVo;
 import com.parkmate.authservice.authuser.vo.response.EmailDuplicateResponseVo;
+import com.parkmate.authservice.authuser.vo.response.SessionResponseVo;
+import com.parkmate.authservice.authuser.vo.response.TokenRefreshResponseVo;
+import com.parkmate.authservice.authuser.vo.response.VerificationCodeSendResponseVo;
 import com.parkmate.authservice.authuser.vo.response.VerifyEmailCodeResponseVo;
+import com.parkmate.authservice.common.redis.VerificationSendStatus;
 import com.parkmate.authservice.common.response.ApiResponse;
+import com.parkmate.authservice.common.response.ResponseStatus;
 import com.parkmate.authservice.authhost.application.AuthHostService;
 import com.parkmate.authservice.authhost.dto.request.HostLoginRequestDto;
 import com.parkmate.authservice.authhost.dto.response.HostLoginResponseDto;
@@ -12,11 +20,14 @@ import com.parkmate.authservice.authhost.vo.request.HostLoginRequestVo;
 import com.parkmate.authservice.authhost.vo.request.HostRegisterRequestVo;
 import com.parkmate.authservice.authhost.vo.response.HostLoginResponseVo;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -44,21 +55,79 @@ public class AuthHostController {
         );
     }
 
+    @Operation(
+            summary = "호스트 토큰 재발급",
+            description = "Refresh Token으로 새 AccessToken과 RefreshToken을 발급합니다. 사용한 Refresh Token은 즉시 폐기되며, 폐기된 토큰을 다시 사용하면 세션이 종료됩니다.",
+            tags = {"AUTH-HOST-SERVICE"}
+    )
+    @PostMapping("/refresh")
+    public ApiResponse<TokenRefreshResponseVo> refresh(@Valid @RequestBody TokenRefreshRequestVo tokenRefreshRequestVo) {
+
+        TokenRefreshResponseDto responseDto = authHostService.refresh(tokenRefreshRequestVo.getRefreshToken());
+
+        return ApiResponse.of(
+                HttpStatus.OK,
+                "토큰이 재발급되었습니다.",
+                TokenRefreshResponseVo.from(responseDto)
+        );
+    }
+
     @Operation(
             summary = "호스트 로그아웃",
-            description = "호스트 계정으로 로그아웃하는 API입니다. RefreshToken을 삭제합니다.",
+            description = "호스트 계정으로 로그아웃하는 API입니다. RefreshToken을 삭제합니다. 본문에 Refresh Token을 보내면 해당 기기만, 없으면 모든 기기에서 로그아웃합니다. Authorization 헤더의 Access Token은 만료 전까지 사용할 수 없게 됩니다.",
             tags = {"AUTH-HOST-SERVICE"}
     )
     @PostMapping("/logout")
-    public ApiResponse<String> logout(@RequestHeader("X-Host-UUID") String hostUuid) {
-
-        authHostService.logout(hostUuid);
+    public ApiResponse<String> logout(@RequestHeader("X-Host-UUID") String hostUuid,
+                                      @RequestHeader(value = "Authorization", required = false) String authorization,
+                                      @RequestBody(required = false) TokenRefreshRequestVo tokenRefreshRequestVo) {
+
+        authHostService.logout(
+                hostUuid,
+                authorization,
+                tokenRefreshRequestVo != null ? tokenRefreshRequestVo.getRefreshToken() : null
+        );
         return ApiResponse.of(
                 HttpStatus.RESET_CONTENT,
                 "호스트 로그아웃 되었습니다."
         );
     }
 
+    @Operation(
+            summary = "호스트 로그인 기기 세션 목록 조회",
+            description = "현재 로그인되어 있는 기기별 세션 목록을 최근 발급 순으로 조회합니다.",
+            tags = {"AUTH-HOST-SERVICE"}
+    )
+    @GetMapping("/sessions")
+    public ApiResponse<List<SessionResponseVo>> getSessions(@RequestHeader("X-Host-UUID") String hostUuid) {
+
+        List<SessionResponseVo> sessions = authHostService.getSessions(hostUuid).stream()
+                .map(SessionResponseVo::from)
+                .toList();
+
+        return ApiResponse.of(
+                HttpStatus.OK,
+                "세션 목록 조회 성공",
+                sessions
+        );
+    }
+
+    @Operation(
+            summary = "호스트 기기 세션 종료",
+            description = "지정한 기기 세션의 Refresh Token을 폐기합니다. 해당 기기는 다음 토큰 재발급 시 다시 로그인해야 합니다.",
+            tags = {"AUTH-HOST-SERVICE"}
+    )
+    @DeleteMapping("/sessions/{sessionId}")
+    public ApiResponse<String> revokeSession(@RequestHeader("X-Host-UUID") String hostUuid,
+                                             @PathVariable String sessionId) {
+
+        authHostService.revokeSession(hostUuid, sessionId);
+        return ApiResponse.of(
+                HttpStatus.OK,
+                "세션이 종료되었습니다."
+        );
+    }
+
     @Operation(
             summary = "호스트 회원가입",
             description = "호스트 계정을 회원가입하는 API입니다. 이메일, 비밀번호, 이름, 전화번호, 계좌번호, 사업자등록번호, 정산주기를 입력받습니다.",
@@ -96,17 +165,34 @@ public class AuthHostController {
 
     @Operation(
             summary = "이메일 인증코드 발송",
-            description = "사용자 이메일로 인증코드를 발송합니다.",
+            description = """
+        사용자 이메일로 인증코드를 발송합니다. <br><br>
+        ⏱ 발송 제한: <br>
+        - 발송 후 60초 동안은 재발송 불가 (423)<br>
+        - 첫 발송부터 24시간 동안 최대 10회 발송 (428)<br>
+        - 인증 시도 차단 중에는 발송 불가 (424)<br><br>
+        거절 시에도 data.retryAfterSeconds 와 Retry-After 헤더로 다시 요청할 수 있을 때까지 남은 시간을 내려줍니다.<br>
+        재발송하면 이전 코드는 즉시 무효화됩니다.
+        """,
             tags = {"AUTH-HOST-SERVICE"}
     )
     @PostMapping("/sendVerificationCode")
-    public ApiResponse<String> sendVerificationCode(@RequestParam String email) {
-
-        authHostService.sendVerificationCode(email);
-        return ApiResponse.of(
-                HttpStatus.OK,
-                "인증 코드가 이메일로 전송되었습니다."
-        );
+    public ApiResponse<VerificationCodeSendResponseVo> sendVerificationCode(@RequestParam String email,
+                                                                            HttpServletResponse response) {
+
+        VerificationCodeSendResponseDto result = authHostService.sendVerificationCode(email);
+        VerificationCodeSendResponseVo responseVo = VerificationCodeSendResponseVo.from(result);
+
+        if (result.isSent()) {
+            return ApiResponse.of(
+                    HttpStatus.OK,
+                    "인증 코드가 이메일로 전송되었습니다.",
+                    responseVo
+            );
+        }
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(result.getRetryAfterSeconds()));
+        return ApiResponse.of(toRejectedStatus(result.getStatus()), responseVo);
     }
 
     @Operation(
@@ -115,7 +201,7 @@ public class AuthHostController {
         사용자가 입력한 이메일 인증코드를 검증합니다. <br><br>
         🔐 인증 실패 시 다음과 같은 제한이 적용됩니다: <br>
         - 인증 코드 5회 실패 시 10분간 인증 시도 차단<br>
-        - 인증코드 재요청 시 실패 횟수 초기화<br><br>
+        - 인증코드를 재요청해도 실패 횟수는 유지 (발송 한도 구간이 새로 시작될 때 초기화)<br><br>
         ❗ 인증 코드 유효 시간은 3분입니다.
         """,
             tags = {"AUTH-HOST-SERVICE"}
@@ -135,4 +221,12 @@ public class AuthHostController {
                 VerifyEmailCodeResponseVo.of(isValid)
         );
     }
+
+    private ResponseStatus toRejectedStatus(VerificationSendStatus status) {
+        return switch (status) {
+            case BLOCKED -> ResponseStatus.VERIFICATION_ATTEMPT_BLOCKED;
+            case DAILY_LIMIT_EXCEEDED -> ResponseStatus.VERIFICATION_DAILY_LIMIT_EXCEEDED;
+            default -> ResponseStatus.VERIFICATION_CODE_ALREADY_SENT;
+        };
+    }
 }
\ No newline at end of file
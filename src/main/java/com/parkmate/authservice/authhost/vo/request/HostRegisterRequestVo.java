@@ -1,5 +1,6 @@
 package com.parkmate.authservice.authhost.vo.request;
 
+import com.parkmate.authservice.common.validation.VerificationCode;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -52,6 +53,6 @@ public class HostRegisterRequestVo {
     private int settlementCycle;
 
     @NotBlank(message = "인증 코드는 필수 입력값입니다.")
-    @Pattern(regexp = "^\\d{6}$", message = "인증 코드는 6자리 숫자여야 합니다.")
+    @VerificationCode
     private String verificationCode;
 }
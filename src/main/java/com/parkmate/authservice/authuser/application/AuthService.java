@@ -2,22 +2,32 @@ package com.parkmate.authservice.authuser.application;
 
 import com.parkmate.authservice.authuser.dto.request.UserLoginRequestDto;
 import com.parkmate.authservice.authuser.dto.request.UserRegisterRequestDto;
+import com.parkmate.authservice.authuser.dto.response.SessionResponseDto;
 import com.parkmate.authservice.authuser.dto.response.SocialLoginResponseDto;
+import com.parkmate.authservice.authuser.dto.response.TokenRefreshResponseDto;
 import com.parkmate.authservice.authuser.dto.response.UserLoginResponseDto;
+import com.parkmate.authservice.authuser.dto.response.VerificationCodeSendResponseDto;
 import com.parkmate.authservice.authuser.vo.request.SocialRegisterRequestVo;
 import com.parkmate.authservice.authuser.vo.request.UserRegisterRequestVo;
+import java.util.List;
 
 public interface AuthService {
 
     UserLoginResponseDto login(UserLoginRequestDto userLoginRequestDto);
 
-    void logout(String userUuid);
+    TokenRefreshResponseDto refresh(String refreshToken);
+
+    void logout(String userUuid, String authorizationHeader, String refreshToken);
+
+    List<SessionResponseDto> getSessions(String userUuid);
+
+    void revokeSession(String userUuid, String sessionId);
 
     void register(UserRegisterRequestDto userRegisterRequestDto, UserRegisterRequestVo userRegisterRequestVo);
 
     boolean isEmailDuplicate(String email);
 
-    void sendVerificationCode(String email);
+    VerificationCodeSendResponseDto sendVerificationCode(String email);
 
     boolean verifyEmailCode(String email, String code);
 
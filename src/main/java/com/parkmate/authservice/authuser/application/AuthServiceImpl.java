@@ -4,34 +4,43 @@ import com.parkmate.authservice.authuser.application.oauth.OAuthService;
 import com.parkmate.authservice.authuser.application.oauth.OAuthServiceFactory;
 import com.parkmate.authservice.authuser.domain.AuthUser;
 import com.parkmate.authservice.authuser.domain.LoginType;
-import com.parkmate.authservice.authuser.domain.SocialProvider;
 import com.parkmate.authservice.authuser.dto.request.UserLoginRequestDto;
 import com.parkmate.authservice.authuser.dto.request.UserRegisterRequestDto;
 import com.parkmate.authservice.authuser.dto.request.feign.UserRegisterRequestForSocialUserDto;
 import com.parkmate.authservice.authuser.dto.request.feign.UserRegisterRequestForUserServiceDto;
+import com.parkmate.authservice.authuser.dto.response.SessionResponseDto;
 import com.parkmate.authservice.authuser.dto.response.SocialLoginResponseDto;
+import com.parkmate.authservice.authuser.dto.response.TokenRefreshResponseDto;
 import com.parkmate.authservice.authuser.dto.response.UserLoginResponseDto;
+import com.parkmate.authservice.authuser.dto.response.VerificationCodeSendResponseDto;
 import com.parkmate.authservice.authuser.infrastructure.AuthRepository;
 import com.parkmate.authservice.authuser.infrastructure.client.UserFeignClient;
+import com.parkmate.authservice.authuser.infrastructure.projection.AuthUserCredential;
+import com.parkmate.authservice.authuser.infrastructure.projection.AuthUserPrincipal;
 import com.parkmate.authservice.authuser.vo.request.SocialRegisterRequestVo;
 import com.parkmate.authservice.authuser.vo.request.UserRegisterRequestVo;
 import com.parkmate.authservice.common.exception.BaseException;
 import com.parkmate.authservice.common.generator.UUIDGenerator;
+import com.parkmate.authservice.common.generator.VerificationCodeGenerator;
 import com.parkmate.authservice.common.mail.MailService;
+import com.parkmate.authservice.common.principal.PrincipalCache;
+import com.parkmate.authservice.common.principal.PrincipalSnapshot;
 import com.parkmate.authservice.common.redis.RedisService;
+import com.parkmate.authservice.common.redis.VerificationAttemptResult;
+import com.parkmate.authservice.common.redis.VerificationSendResult;
 import com.parkmate.authservice.common.response.ResponseStatus;
 import com.parkmate.authservice.common.roletype.RoleType;
-import com.parkmate.authservice.common.security.jwt.JwtProvider;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.parkmate.authservice.common.security.password.PasswordHashUpgrader;
+import com.parkmate.authservice.common.security.session.SessionTokenService;
+import com.parkmate.authservice.common.security.session.SessionTokenService.IssuedTokens;
+import com.parkmate.authservice.outbox.application.OutboxService;
+import com.parkmate.authservice.outbox.domain.OutboxEventType;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.Duration;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -40,71 +49,114 @@ public class AuthServiceImpl implements AuthService {
     private final AuthRepository authRepository;
     private final PasswordEncoder passwordEncoder;
     private final RedisService redisService;
-    private final JwtProvider jwtProvider;
+    private final SessionTokenService sessionTokenService;
+    private final PasswordHashUpgrader passwordHashUpgrader;
+    private final PrincipalCache principalCache;
     private final UserFeignClient userFeignClient;
     private final MailService mailService;
+    private final VerificationCodeGenerator verificationCodeGenerator;
     private final OAuthServiceFactory oAuthServiceFactory;
-    private final AuthenticationManager authenticationManager;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthServiceImpl(
             AuthRepository authRepository,
             PasswordEncoder passwordEncoder,
             RedisService redisService,
-            JwtProvider jwtProvider,
+            SessionTokenService sessionTokenService,
+            PasswordHashUpgrader passwordHashUpgrader,
+            PrincipalCache principalCache,
             UserFeignClient userFeignClient,
             MailService mailService,
+            VerificationCodeGenerator verificationCodeGenerator,
             OAuthServiceFactory oAuthServiceFactory,
-            @Qualifier("userAuthenticationManager") AuthenticationManager authenticationManager
+            OutboxService outboxService,
+            TransactionTemplate transactionTemplate
     ) {
         this.authRepository = authRepository;
         this.passwordEncoder = passwordEncoder;
         this.redisService = redisService;
-        this.jwtProvider = jwtProvider;
+        this.sessionTokenService = sessionTokenService;
+        this.passwordHashUpgrader = passwordHashUpgrader;
+        this.principalCache = principalCache;
         this.userFeignClient = userFeignClient;
         this.mailService = mailService;
+        this.verificationCodeGenerator = verificationCodeGenerator;
         this.oAuthServiceFactory = oAuthServiceFactory;
-        this.authenticationManager = authenticationManager;
+        this.outboxService = outboxService;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    private static final long REFRESH_TOKEN_EXPIRY_MILLIS = Duration.ofDays(7).toMillis();
-    private static final Duration EMAIL_VERIFICATION_TTL = Duration.ofMinutes(3);
     private static final int LOGIN_FAIL_LIMIT = 5;
 
-    @Transactional
+    /**
+     * 트랜잭션은 저장소 호출 단위로만 열린다. BCrypt, Redis, 메일, Feign 호출 동안 DB 커넥션을 점유하지 않는다.
+     */
     @Override
     public UserLoginResponseDto login(UserLoginRequestDto userLoginRequestDto) {
-        AuthUser user = authRepository.findByEmail(userLoginRequestDto.getEmail())
+
+        // 이 노드가 이미 잠김을 알고 있으면 DB 를 거치지 않고 거절한다.
+        // 비밀번호 검증에 어차피 DB 조회가 필요하므로 여기서는 L2(Redis) 왕복을 추가하지 않는다
+        Optional<PrincipalSnapshot> cachedPrincipal = principalCache.findLocalByEmail(RoleType.USER, userLoginRequestDto.getEmail());
+        if (cachedPrincipal.map(PrincipalSnapshot::isLocked).orElse(false)) {
+            throw new BaseException(ResponseStatus.AUTH_ACCOUNT_LOCKED);
+        }
+
+        // 비밀번호 해시는 캐시하지 않으므로 검증에는 DB 조회가 필요하다
+        AuthUserCredential user = authRepository.findCredentialByEmail(userLoginRequestDto.getEmail())
                 .orElseThrow(() -> new BaseException(ResponseStatus.AUTH_USER_NOT_FOUND));
 
+        if (cachedPrincipal.isEmpty()) {
+            principalCache.putLocal(user.toPrincipalSnapshot());
+        }
+
         if (user.isAccountLocked()) {
             throw new BaseException(ResponseStatus.AUTH_ACCOUNT_LOCKED);
         }
 
+        // 필요한 컬럼만 1회 조회 + 해시 1회 검증으로 인증을 끝낸다 (AuthenticationManager 를 거치면 조회·BCrypt 가 한 번 더 일어남)
         if (!userLoginRequestDto.isPasswordMatch(user.getPassword(), passwordEncoder)) {
             handleFailedLogin(user);
             throw new BaseException(ResponseStatus.INVALID_AUTH_PASSWORD);
         }
 
-        redisService.resetLoginFailCount(user.getEmail(), RoleType.USER);
-        authenticateUser(userLoginRequestDto);
+        passwordHashUpgrader.upgradeIfNeeded(
+                RoleType.USER,
+                user.getEmail(),
+                user.getUserUuid(),
+                user.getPassword(),
+                userLoginRequestDto.getPassword(),
+                newHash -> authRepository.updatePassword(user.getId(), newHash)
+        );
 
-        String accessToken = jwtProvider.generateAccessToken();
-        String refreshToken = jwtProvider.generateRefreshToken();
-        redisService.saveRefreshToken(user.getUserUuid(), refreshToken, REFRESH_TOKEN_EXPIRY_MILLIS);
+        IssuedTokens tokens = sessionTokenService.startLoginSession(RoleType.USER, user.getUserUuid(), user.getEmail());
+        return UserLoginResponseDto.of(user.getUserUuid(), tokens.accessToken(), tokens.refreshToken());
+    }
 
-        return UserLoginResponseDto.of(user.getUserUuid(), accessToken, refreshToken);
+    @Override
+    public TokenRefreshResponseDto refresh(String refreshToken) {
+        return sessionTokenService.refresh(RoleType.USER, refreshToken);
     }
 
-    @Transactional
     @Override
-    public void logout(String userUuid) {
-        redisService.deleteRefreshToken(userUuid);
+    public void logout(String userUuid, String authorizationHeader, String refreshToken) {
+        sessionTokenService.logout(RoleType.USER, userUuid, authorizationHeader, refreshToken);
+    }
+
+    @Override
+    public List<SessionResponseDto> getSessions(String userUuid) {
+        return sessionTokenService.getSessions(RoleType.USER, userUuid);
+    }
+
+    @Override
+    public void revokeSession(String userUuid, String sessionId) {
+        sessionTokenService.revokeSession(RoleType.USER, userUuid, sessionId);
     }
 
-    @Transactional
     @Override
     public void register(UserRegisterRequestDto userRegisterRequestDto, UserRegisterRequestVo userRegisterRequestVo) {
-        boolean isVerified = redisService.verifyEmailCode(
+        // 인증코드는 일치하는 순간 삭제되어 한 번만 사용할 수 있다
+        boolean isVerified = redisService.consumeVerificationCode(
                 userRegisterRequestDto.getEmail(),
                 userRegisterRequestVo.getVerificationCode(),
                 RoleType.USER
@@ -114,18 +166,20 @@ public class AuthServiceImpl implements AuthService {
             throw new BaseException(ResponseStatus.INVALID_VERIFICATION_CODE);
         }
 
+        // 해싱은 커넥션을 잡기 전에 끝낸다. user-service 전송은 같은 트랜잭션에 기록한 아웃박스 이벤트로 비동기 처리
         String userUuid = UUIDGenerator.generateUUID();
         AuthUser newUser = userRegisterRequestDto.toEntity(userUuid, passwordEncoder);
+        UserRegisterRequestForUserServiceDto dto = UserRegisterRequestForUserServiceDto.of(
+                userUuid,
+                userRegisterRequestVo.getName(),
+                userRegisterRequestVo.getPhoneNumber()
+        );
 
         try {
-            authRepository.save(newUser);
-            UserRegisterRequestForUserServiceDto dto = UserRegisterRequestForUserServiceDto.of(
-                    userUuid,
-                    userRegisterRequestVo.getName(),
-                    userRegisterRequestVo.getPhoneNumber()
-            );
-            userFeignClient.registerUser(dto);
-            redisService.deleteVerificationCode(userRegisterRequestDto.getEmail(), RoleType.USER);
+            transactionTemplate.executeWithoutResult(status -> {
+                authRepository.save(newUser);
+                outboxService.append(OutboxEventType.USER_REGISTERED, userUuid, dto);
+            });
         } catch (DataIntegrityViolationException e) {
             String message = e.getMostSpecificCause() != null ? e.getMostSpecificCause().getMessage() : "";
             if (message.contains("UK_auth_user_email")) {
@@ -133,9 +187,6 @@ public class AuthServiceImpl implements AuthService {
             } else {
                 throw new BaseException(ResponseStatus.INTERNAL_SERVER_ERROR);
             }
-        } catch (Exception e) {
-            authRepository.deleteById(newUser.getId());
-            throw new BaseException(ResponseStatus.AUTH_USER_REGISTER_FAILED);
         }
     }
 
@@ -143,12 +194,17 @@ public class AuthServiceImpl implements AuthService {
         return currentFailCount >= LOGIN_FAIL_LIMIT;
     }
 
-    private void handleFailedLogin(AuthUser authUser) {
+    private void handleFailedLogin(AuthUserCredential authUser) {
         int failCount = redisService.incrementLoginFailCount(authUser.getEmail(), RoleType.USER);
 
         if (shouldLockAccount(failCount)) {
-            authUser.lockAccount();
-            authRepository.save(authUser);
+            // 조건부 UPDATE 한 번으로 잠금. 실제로 잠근 요청만 캐시 무효화와 잠금 메일을 처리한다
+            boolean lockedByThisRequest = authRepository.lockAccountIfUnlocked(authUser.getEmail()) > 0;
+            if (!lockedByThisRequest) {
+                throw new BaseException(ResponseStatus.AUTH_ACCOUNT_LOCKED);
+            }
+
+            principalCache.invalidate(RoleType.USER, authUser.getEmail(), authUser.getUserUuid());
             try {
                 String userName = userFeignClient.findNameByEmail(authUser.getEmail());
                 mailService.sendAccountLockEmail(authUser.getEmail(), userName);
@@ -159,121 +215,106 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
-    private void authenticateUser(UserLoginRequestDto request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(), request.getPassword()
-                )
-        );
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-    }
-
     @Transactional(readOnly = true)
     @Override
     public boolean isEmailDuplicate(String email) {
         return authRepository.existsByEmail(email);
     }
 
-    @Transactional
     @Override
-    public void sendVerificationCode(String email) {
+    public VerificationCodeSendResponseDto sendVerificationCode(String email) {
         RoleType roleType = RoleType.USER;
-        String existingCode = redisService.getVerificationCode(email, roleType);
-        if (existingCode != null) {
-            throw new BaseException(ResponseStatus.VERIFICATION_CODE_ALREADY_SENT);
+
+        // 재발송 대기·발송 한도 확인과 코드 교체가 한 번의 스크립트로 처리되므로 동시에 요청해도 하나만 발송된다
+        String code = verificationCodeGenerator.generate();
+        VerificationSendResult result = redisService.saveVerificationCode(email, code, roleType);
+        if (!result.isSent()) {
+            return VerificationCodeSendResponseDto.from(result);
         }
 
-        String code = mailService.generateVerificationCode();
-        mailService.sendVerificationEmail(email, code);
-        redisService.saveVerificationCode(email, code, EMAIL_VERIFICATION_TTL, roleType);
+        try {
+            mailService.sendVerificationEmail(email, code);
+        } catch (RuntimeException e) {
+            redisService.cancelVerificationCode(email, code, roleType);
+            throw e;
+        }
+        return VerificationCodeSendResponseDto.from(result);
     }
 
-    @Transactional
     @Override
     public boolean verifyEmailCode(String email, String code) {
-        RoleType roleType = RoleType.USER;
-        if (redisService.isVerificationAttemptBlocked(email, roleType)) {
+        VerificationAttemptResult result = redisService.attemptVerification(email, code, RoleType.USER);
+
+        if (result == VerificationAttemptResult.BLOCKED) {
             throw new BaseException(ResponseStatus.VERIFICATION_ATTEMPT_BLOCKED);
         }
-
-        boolean isVerified = redisService.verifyEmailCode(email, code, roleType);
-
-        if (!isVerified) {
-            int failCount = redisService.incrementVerificationAttemptFailCount(email, roleType);
-            if (failCount > 5) {
-                redisService.blockVerificationAttempts(email, roleType, Duration.ofMinutes(10));
-                throw new BaseException(ResponseStatus.VERIFICATION_ATTEMPT_BLOCKED);
-            }
+        if (result == VerificationAttemptResult.MISMATCHED) {
             throw new BaseException(ResponseStatus.INVALID_VERIFICATION_CODE_MISMATCH);
         }
-
-        redisService.resetVerificationAttemptFailCount(email, roleType);
         return true;
     }
 
-    @Transactional
     @Override
     public SocialLoginResponseDto registerSocialUser(String socialAccessToken, SocialRegisterRequestVo socialRegisterRequestVo) {
 
         OAuthService oAuthService = oAuthServiceFactory.getOAuthService(socialRegisterRequestVo.getProvider());
         String email = oAuthService.getEmail(socialAccessToken);
 
-        Optional<AuthUser> optionalUser = authRepository.findByEmail(email);
-
-        if (optionalUser.isEmpty()) {
-
-            AuthUser newUser = registerNewSocialUser(email, socialRegisterRequestVo.getProvider());
+        // 기존 회원이면 uuid 만 필요하므로 엔티티 대신 단일 컬럼만 조회
+        Optional<String> existingUserUuid = authRepository.findUserUuidByEmail(email);
 
-            try {
-                UserRegisterRequestForSocialUserDto feignDto = UserRegisterRequestForSocialUserDto.of(
-                        newUser.getUserUuid(),
-                        socialRegisterRequestVo.getName()
-                );
-                userFeignClient.registerSocialUser(feignDto);
-            } catch (Exception e) {
-                authRepository.deleteById(newUser.getId());
-                throw new BaseException(ResponseStatus.AUTH_USER_REGISTER_FAILED);
-            }
+        if (existingUserUuid.isEmpty()) {
 
-            return generateTokensAndSave(newUser.getUserUuid());
+            String userUuid = registerNewSocialUser(email, socialRegisterRequestVo);
+            return generateTokensAndSave(userUuid);
         }
 
-        return generateTokensAndSave(optionalUser.get().getUserUuid());
+        return generateTokensAndSave(existingUserUuid.get());
     }
 
-    private AuthUser registerNewSocialUser(String email, SocialProvider socialProvider) {
+    private String registerNewSocialUser(String email, SocialRegisterRequestVo socialRegisterRequestVo) {
         String userUuid = UUIDGenerator.generateUUID();
 
         AuthUser user = AuthUser.builder()
                 .userUuid(userUuid)
                 .email(email)
                 .loginType(LoginType.SOCIAL)
-                .socialProvider(socialProvider)
+                .socialProvider(socialRegisterRequestVo.getProvider())
                 .build();
+        UserRegisterRequestForSocialUserDto feignDto = UserRegisterRequestForSocialUserDto.of(
+                userUuid,
+                socialRegisterRequestVo.getName()
+        );
 
         try {
-            return authRepository.save(user);
+            transactionTemplate.executeWithoutResult(status -> {
+                authRepository.save(user);
+                outboxService.append(OutboxEventType.SOCIAL_USER_REGISTERED, userUuid, feignDto);
+            });
         } catch (DataIntegrityViolationException e) {
             throw new BaseException(ResponseStatus.AUTH_EMAIL_ALREADY_EXISTS);
         }
+        return userUuid;
     }
 
     private SocialLoginResponseDto generateTokensAndSave(String userUuid) {
 
-        String accessToken = jwtProvider.generateAccessToken();
-        String refreshToken = jwtProvider.generateRefreshToken();
-
-        redisService.saveRefreshToken(userUuid, refreshToken, REFRESH_TOKEN_EXPIRY_MILLIS);
-
-        return SocialLoginResponseDto.of(userUuid, accessToken, refreshToken);
+        IssuedTokens tokens = sessionTokenService.startSession(RoleType.USER, userUuid);
+        return SocialLoginResponseDto.of(userUuid, tokens.accessToken(), tokens.refreshToken());
     }
 
-    @Transactional
+    /**
+     * 계정 캐시에 있으면 DB 를 거치지 않는다 (트랜잭션은 캐시 미스 시 저장소 호출에서만 열림)
+     */
     @Override
     public String getEmailByUserUuid(String userUuid) {
-        AuthUser authUser = authRepository.findByUserUuid(userUuid)
+        return principalCache.getByUuid(
+                        RoleType.USER,
+                        userUuid,
+                        () -> authRepository.findPrincipalByUserUuid(userUuid).map(AuthUserPrincipal::toPrincipalSnapshot)
+                )
+                .map(PrincipalSnapshot::getEmail)
                 .orElseThrow(() -> new BaseException(ResponseStatus.AUTH_USER_NOT_FOUND));
-        return authUser.getEmail();
     }
 }
 
@@ -66,10 +66,6 @@ public class AuthUser extends BaseEntity implements UserDetails {
         this.accountLocked = accountLocked;
     }
 
-    public void lockAccount() {
-        this.accountLocked = true;
-    }
-
     public boolean isAccountLocked() {
         return this.accountLocked;
     }
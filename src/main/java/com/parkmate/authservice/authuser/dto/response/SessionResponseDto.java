@@ -0,0 +1,41 @@
+package com.parkmate.authservice.authuser.dto.response;
+
+import com.parkmate.authservice.common.redis.RefreshSession;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+@NoArgsConstructor
+public class SessionResponseDto {
+
+    private String sessionId;
+    private LocalDateTime issuedAt;
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private SessionResponseDto(String sessionId,
+                               LocalDateTime issuedAt,
+                               LocalDateTime expiresAt) {
+
+        this.sessionId = sessionId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static SessionResponseDto from(RefreshSession refreshSession) {
+
+        return SessionResponseDto.builder()
+                .sessionId(refreshSession.getSessionId())
+                .issuedAt(toLocalDateTime(refreshSession.getIssuedAtMillis()))
+                .expiresAt(toLocalDateTime(refreshSession.getExpiresAtMillis()))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,30 @@
+package com.parkmate.authservice.authuser.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TokenRefreshResponseDto {
+
+    private String accessToken;
+    private String refreshToken;
+
+    @Builder
+    private TokenRefreshResponseDto(String accessToken,
+                                    String refreshToken) {
+
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    public static TokenRefreshResponseDto of(String accessToken,
+                                             String refreshToken) {
+
+        return TokenRefreshResponseDto.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.parkmate.authservice.authuser.dto.response;
+
+import com.parkmate.authservice.common.redis.VerificationSendResult;
+import com.parkmate.authservice.common.redis.VerificationSendStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class VerificationCodeSendResponseDto {
+
+    private VerificationSendStatus status;
+    private long retryAfterSeconds;
+    private int remainingSends;
+
+    @Builder
+    private VerificationCodeSendResponseDto(VerificationSendStatus status,
+                                            long retryAfterSeconds,
+                                            int remainingSends) {
+
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.remainingSends = remainingSends;
+    }
+
+    public static VerificationCodeSendResponseDto from(VerificationSendResult result) {
+
+        // 남은 시간은 올림해서 초 단위로 내려준다 (0.2초 남았는데 0초로 안내하지 않도록)
+        return VerificationCodeSendResponseDto.builder()
+                .status(result.getStatus())
+                .retryAfterSeconds((result.getRetryAfterMillis() + 999) / 1000)
+                .remainingSends(result.getRemainingSends())
+                .build();
+    }
+
+    public boolean isSent() {
+        return status == VerificationSendStatus.SENT;
+    }
+}
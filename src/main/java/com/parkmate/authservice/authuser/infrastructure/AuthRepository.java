@@ -1,7 +1,16 @@
 package com.parkmate.authservice.authuser.infrastructure;
 
 import com.parkmate.authservice.authuser.domain.AuthUser;
+import com.parkmate.authservice.authuser.infrastructure.projection.AuthUserCredential;
+import com.parkmate.authservice.authuser.infrastructure.projection.AuthUserPrincipal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 public interface AuthRepository extends JpaRepository<AuthUser, Long> {
@@ -10,5 +19,39 @@ public interface AuthRepository extends JpaRepository<AuthUser, Long> {
 
     boolean existsByEmail(String email);
 
-    Optional<AuthUser> findByUserUuid(String userUuid);
+    // ==================== 조회 전용 projection (영속성 컨텍스트·스냅샷 없이 필요한 컬럼만) ====================
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select u.id as id, u.userUuid as userUuid, u.email as email, u.password as password, u.accountLocked as accountLocked
+            from AuthUser u
+            where u.email = :email
+            """)
+    Optional<AuthUserCredential> findCredentialByEmail(@Param("email") String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select u.userUuid as userUuid, u.email as email, u.accountLocked as accountLocked
+            from AuthUser u
+            where u.userUuid = :userUuid
+            """)
+    Optional<AuthUserPrincipal> findPrincipalByUserUuid(@Param("userUuid") String userUuid);
+
+    @Query("select u.userUuid from AuthUser u where u.email = :email")
+    Optional<String> findUserUuidByEmail(@Param("email") String email);
+
+    // ==================== 부분 갱신 ====================
+
+    @Transactional
+    @Modifying
+    @Query("update AuthUser u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    /**
+     * 아직 잠기지 않은 계정만 잠근다. 동시에 여러 요청이 와도 1 을 받는 요청은 하나뿐이다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update AuthUser u set u.accountLocked = true where u.email = :email and u.accountLocked = false")
+    int lockAccountIfUnlocked(@Param("email") String email);
 }
@@ -2,10 +2,13 @@ package com.parkmate.authservice.authuser.infrastructure.client;
 
 import com.parkmate.authservice.authuser.dto.request.feign.UserRegisterRequestForSocialUserDto;
 import com.parkmate.authservice.authuser.dto.request.feign.UserRegisterRequestForUserServiceDto;
+import com.parkmate.authservice.outbox.dto.OutboxBatchRequestDto;
+import com.parkmate.authservice.outbox.dto.OutboxBatchResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "user-service")
@@ -15,9 +18,17 @@ public interface UserFeignClient {
     String  findNameByEmail(@RequestParam("email") String email);
 
     @PostMapping("/internal/users")
-    void registerUser(@RequestBody UserRegisterRequestForUserServiceDto userRegisterRequestForUserServiceDto);
+    void registerUser(@RequestHeader("Idempotency-Key") String idempotencyKey,
+                      @RequestBody UserRegisterRequestForUserServiceDto userRegisterRequestForUserServiceDto);
 
     @PostMapping("/internal/users/social")
-    void registerSocialUser(@RequestBody UserRegisterRequestForSocialUserDto userRegisterRequestForSocialUserDto);
+    void registerSocialUser(@RequestHeader("Idempotency-Key") String idempotencyKey,
+                            @RequestBody UserRegisterRequestForSocialUserDto userRegisterRequestForSocialUserDto);
+
+    @PostMapping("/internal/users/batch")
+    OutboxBatchResponseDto registerUsers(@RequestBody OutboxBatchRequestDto<UserRegisterRequestForUserServiceDto> batchRequest);
+
+    @PostMapping("/internal/users/social/batch")
+    OutboxBatchResponseDto registerSocialUsers(@RequestBody OutboxBatchRequestDto<UserRegisterRequestForSocialUserDto> batchRequest);
 
 }
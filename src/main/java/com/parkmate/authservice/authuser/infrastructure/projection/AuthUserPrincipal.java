@@ -0,0 +1,20 @@
+package com.parkmate.authservice.authuser.infrastructure.projection;
+
+import com.parkmate.authservice.common.principal.PrincipalSnapshot;
+import com.parkmate.authservice.common.roletype.RoleType;
+
+/**
+ * uuid → email 조회와 잠금 상태 확인용 projection (계정 캐시 적재에 사용)
+ */
+public interface AuthUserPrincipal {
+
+    String getUserUuid();
+
+    String getEmail();
+
+    boolean isAccountLocked();
+
+    default PrincipalSnapshot toPrincipalSnapshot() {
+        return PrincipalSnapshot.of(getUserUuid(), getEmail(), RoleType.USER, isAccountLocked());
+    }
+}
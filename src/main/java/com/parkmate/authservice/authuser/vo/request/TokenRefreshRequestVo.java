@@ -0,0 +1,13 @@
+package com.parkmate.authservice.authuser.vo.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TokenRefreshRequestVo {
+
+    @NotBlank(message = "리프레시 토큰은 필수 입력값입니다.")
+    private String refreshToken;
+}
@@ -1,5 +1,6 @@
 package com.parkmate.authservice.authuser.vo.request;
 
+import com.parkmate.authservice.common.validation.VerificationCode;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -34,6 +35,6 @@ public class UserRegisterRequestVo {
     private String phoneNumber;
 
     @NotBlank(message = "인증 코드는 필수 입력값입니다.")
-    @Pattern(regexp = "^\\d{6}$", message = "인증 코드는 6자리 숫자여야 합니다.")
+    @VerificationCode
     private String verificationCode;
 }
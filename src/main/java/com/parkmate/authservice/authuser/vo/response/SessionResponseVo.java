@@ -0,0 +1,31 @@
+package com.parkmate.authservice.authuser.vo.response;
+
+import com.parkmate.authservice.authuser.dto.response.SessionResponseDto;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class SessionResponseVo {
+
+    private String sessionId;
+    private LocalDateTime issuedAt;
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private SessionResponseVo(String sessionId, LocalDateTime issuedAt, LocalDateTime expiresAt) {
+        this.sessionId = sessionId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static SessionResponseVo from(SessionResponseDto sessionResponseDto) {
+        return SessionResponseVo.builder()
+                .sessionId(sessionResponseDto.getSessionId())
+                .issuedAt(sessionResponseDto.getIssuedAt())
+                .expiresAt(sessionResponseDto.getExpiresAt())
+                .build();
+    }
+}
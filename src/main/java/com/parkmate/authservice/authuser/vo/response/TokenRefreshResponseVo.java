@@ -0,0 +1,27 @@
+package com.parkmate.authservice.authuser.vo.response;
+
+import com.parkmate.authservice.authuser.dto.response.TokenRefreshResponseDto;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TokenRefreshResponseVo {
+
+    private String accessToken;
+    private String refreshToken;
+
+    @Builder
+    private TokenRefreshResponseVo(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    public static TokenRefreshResponseVo from(TokenRefreshResponseDto tokenRefreshResponseDto) {
+        return TokenRefreshResponseVo.builder()
+                .accessToken(tokenRefreshResponseDto.getAccessToken())
+                .refreshToken(tokenRefreshResponseDto.getRefreshToken())
+                .build();
+    }
+}
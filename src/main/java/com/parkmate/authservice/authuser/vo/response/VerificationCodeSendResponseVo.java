@@ -0,0 +1,34 @@
+package com.parkmate.authservice.authuser.vo.response;
+
+import com.parkmate.authservice.authuser.dto.response.VerificationCodeSendResponseDto;
+import com.parkmate.authservice.common.redis.VerificationSendStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class VerificationCodeSendResponseVo {
+
+    private VerificationSendStatus status;
+    private long retryAfterSeconds;
+    private int remainingSends;
+
+    @Builder
+    private VerificationCodeSendResponseVo(VerificationSendStatus status,
+                                           long retryAfterSeconds,
+                                           int remainingSends) {
+
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.remainingSends = remainingSends;
+    }
+
+    public static VerificationCodeSendResponseVo from(VerificationCodeSendResponseDto verificationCodeSendResponseDto) {
+        return VerificationCodeSendResponseVo.builder()
+                .status(verificationCodeSendResponseDto.getStatus())
+                .retryAfterSeconds(verificationCodeSendResponseDto.getRetryAfterSeconds())
+                .remainingSends(verificationCodeSendResponseDto.getRemainingSends())
+                .build();
+    }
+}
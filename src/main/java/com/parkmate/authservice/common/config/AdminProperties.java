@@ -0,0 +1,22 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.admin")
+public class AdminProperties {
+
+    // X-Admin-Api-Key 로 비교할 값. 비어 있으면 관리자 API 는 모두 거절된다
+    private String apiKey;
+
+    // 가져오기 시 한 번에 해싱/INSERT 하고 결과를 내보내는 행 수
+    private int importChunkSize = 500;
+
+    // 가져오기가 백그라운드 해싱 풀에 동시에 맡기는 최대 작업 수. 풀 스레드 수 + 대기열 크기 이하로 둔다
+    private int importHashingConcurrency = 8;
+}
@@ -0,0 +1,53 @@
+package com.parkmate.authservice.common.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.Set;
+
+@Configuration
+public class JpaConfig {
+
+    // 커넥션 풀 대기 시간 / 점유 시간
+    private static final Set<String> HIKARI_TIMING_METRICS = Set.of(
+            "hikaricp.connections.acquire",
+            "hikaricp.connections.usage"
+    );
+
+    /**
+     * 기본값(DELAYED_ACQUISITION_AND_HOLD)은 open-in-view 세션이 닫힐 때까지 커넥션을 쥐고 있으므로,
+     * 트랜잭션이 끝나는 즉시 풀에 반납하도록 변경
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+
+    /**
+     * 커넥션 대기/점유 시간을 백분위로 확인할 수 있도록 히스토그램 활성화
+     */
+    @Bean
+    public MeterFilter hikariTimingMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HIKARI_TIMING_METRICS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(0.5, 0.95, 0.99)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
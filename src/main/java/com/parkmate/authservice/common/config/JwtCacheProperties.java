@@ -0,0 +1,17 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "jwt.cache")
+public class JwtCacheProperties {
+
+    private boolean enabled = false;
+
+    private long maximumSize = 10_000;
+}
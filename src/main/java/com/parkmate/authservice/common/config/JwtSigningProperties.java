@@ -0,0 +1,50 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서명 키 설정. 키 교체는 다음 순서로 진행한다.
+ * 1) 새 키를 verification-keys 에 추가 후 반영 2) 새 키를 활성 키로, 기존 키를 verification-keys 로 이동
+ * 3) 기존 키로 발급된 토큰이 모두 만료된 뒤 verification-keys 에서 제거
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+    // HS256 (jwt.secret-key 사용) 또는 ES256
+    private String algorithm = "HS256";
+
+    // 토큰 헤더의 kid 및 JWKS 의 kid 로 사용
+    private String keyId = "default";
+
+    // ES256 전용 - Base64 인코딩된 PKCS#8 DER 개인키
+    private String privateKey;
+
+    // ES256 전용 - Base64 인코딩된 X.509 DER 공개키
+    private String publicKey;
+
+    // 서명에는 쓰지 않고 검증에만 사용하는 이전/다음 키 목록
+    private List<VerificationKey> verificationKeys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class VerificationKey {
+
+        private String keyId;
+
+        private String algorithm = "HS256";
+
+        // HS256 전용 - Base64 인코딩된 비밀키
+        private String secretKey;
+
+        // ES256 전용 - Base64 인코딩된 X.509 DER 공개키
+        private String publicKey;
+    }
+}
@@ -0,0 +1,31 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.mail")
+public class MailDispatchProperties {
+
+    // 발송 대기열 크기. 가득 차면 요청은 즉시 AUTH_MAIL_QUEUE_FULL 로 거절
+    private int queueCapacity = 1000;
+
+    // 발송 스레드 수 (스레드마다 SMTP 연결 하나)
+    private int workers = 2;
+
+    // SMTP 연결 한 번으로 보내는 최대 메일 수
+    private int batchSize = 20;
+
+    // 최초 발송을 포함한 최대 시도 횟수
+    private int maxAttempts = 3;
+
+    // 재시도 간격은 initialBackoff * 2^(시도 횟수 - 1), 최대 maxBackoff
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    private Duration maxBackoff = Duration.ofSeconds(30);
+}
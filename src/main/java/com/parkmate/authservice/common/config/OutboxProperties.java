@@ -0,0 +1,52 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.outbox")
+public class OutboxProperties {
+
+    // 한 번에 점유해서 전송할 이벤트 수
+    private int batchSize = 100;
+
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    // 적체 시 한 주기 안에서 연달아 점유·전송하는 최대 횟수
+    private int maxDrainRounds = 10;
+
+    // 점유 후 이 시간 안에 결과가 기록되지 않으면 다른 노드가 다시 가져간다
+    private Duration claimTimeout = Duration.ofSeconds(30);
+
+    // 재시도 간격은 initialBackoff * 2^(시도 횟수 - 1), 최대 maxBackoff
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    // 초과 시 FAILED 로 남겨 수동 처리
+    private int maxAttempts = 10;
+
+    // 배치 전송 사용 여부. 수신 서비스에 /batch 엔드포인트가 배포된 뒤 켠다
+    private boolean batchEnabled = false;
+
+    // 배치 요청 한 번에 담을 이벤트 수
+    private int deliveryBatchSize = 50;
+
+    // 한 번 점유한 양이 batchSize 보다 적으면, 가장 오래 기다린 이벤트가 이 시간을 넘길 때까지 모아서 보낸다
+    private Duration linger = Duration.ofMillis(200);
+
+    // 동시에 전송할 요청 수
+    private int deliveryParallelism = 4;
+
+    // SENT 이벤트 보존 기간. 지난 행은 purgeInterval 마다 purgeBatchSize 건씩 삭제
+    private Duration sentRetention = Duration.ofDays(3);
+
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    private int purgeBatchSize = 1000;
+}
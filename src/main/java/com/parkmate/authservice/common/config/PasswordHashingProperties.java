@@ -0,0 +1,32 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.hashing")
+public class PasswordHashingProperties {
+
+    // BCrypt cost. 올리면 다음 로그인 시 기존 해시가 새 cost 로 재해싱된다
+    private int bcryptStrength = 10;
+
+    // 해싱 전용 스레드 수 (0 이하이면 CPU 코어 수)
+    private int poolSize = 0;
+
+    // 대기열 크기. 가득 차면 즉시 AUTH_HASHING_BUSY 로 거절
+    private int queueCapacity = 100;
+
+    // 요청 스레드가 해싱 결과를 기다리는 최대 시간
+    private Duration waitTimeout = Duration.ofSeconds(5);
+
+    // 대량 가져오기 등 요청 밖 해싱 전용 스레드 수 (0 이하이면 CPU 코어 수의 1/4, 최소 1).
+    // 로그인 풀과 대기열을 공유하지 않으므로 로그인이 가져오기 작업 뒤에서 기다리지 않는다
+    private int backgroundPoolSize = 0;
+
+    private int backgroundQueueCapacity = 16;
+}
@@ -0,0 +1,22 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.principal-cache")
+public class PrincipalCacheProperties {
+
+    // 노드별 L1(Caffeine)
+    private long localMaximumSize = 10_000;
+
+    private Duration localTtl = Duration.ofMinutes(5);
+
+    // 노드 공용 L2(Redis)
+    private Duration remoteTtl = Duration.ofMinutes(30);
+}
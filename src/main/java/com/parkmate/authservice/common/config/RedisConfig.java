@@ -0,0 +1,28 @@
+package com.parkmate.authservice.common.config;
+
+import com.parkmate.authservice.common.principal.PrincipalCache;
+import com.parkmate.authservice.common.security.revocation.TokenRevocationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    /**
+     * 노드 간 로컬 상태 동기화용 pub/sub 구독 (토큰 폐기, 계정 캐시 무효화 이벤트)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       TokenRevocationService tokenRevocationService,
+                                                                       PrincipalCache principalCache) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(tokenRevocationService, new ChannelTopic(TokenRevocationService.REVOCATION_CHANNEL));
+        container.addMessageListener(principalCache, new ChannelTopic(PrincipalCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,39 @@
+package com.parkmate.authservice.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러를 용도별로 분리한다.
+ * 아웃박스 전송은 적체 시 한 주기가 길어질 수 있으므로 전용 스케줄러에서 돌려, 폐기 목록 재구성 같은 기본 작업이 밀리지 않게 한다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String OUTBOX_SCHEDULER = "outboxScheduler";
+
+    /**
+     * TaskScheduler 빈을 직접 등록하면 Boot 자동 구성이 빠지므로 기본 스케줄러도 함께 등록한다.
+     * 크기는 Boot 와 같은 spring.task.scheduling.pool.size 로 조정한다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:2}") int poolSize) {
+        return createScheduler(poolSize, "scheduling-");
+    }
+
+    @Bean(name = OUTBOX_SCHEDULER)
+    public ThreadPoolTaskScheduler outboxScheduler() {
+        return createScheduler(1, "outbox-relay-");
+    }
+
+    private ThreadPoolTaskScheduler createScheduler(int poolSize, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(poolSize, 1));
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -1,31 +1,30 @@
 package com.parkmate.authservice.common.config;
 
-import com.parkmate.authservice.authhost.application.policy.security.CustomHostDetailsService;
-import com.parkmate.authservice.authuser.application.policy.security.CustomUserDetailsService;
+import com.parkmate.authservice.common.security.admin.AdminApiKeyFilter;
 import com.parkmate.authservice.common.security.jwt.JwtAuthenticationFilter;
+import com.parkmate.authservice.common.security.password.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String BCRYPT_ENCODING_ID = "bcrypt";
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    private final CustomUserDetailsService customUserDetailsService;
-    private final CustomHostDetailsService customHostDetailsService;
+    private final AdminApiKeyFilter adminApiKeyFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -34,6 +33,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 관리자 API 는 X-Admin-Api-Key 로 인증된 요청만 허용
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .requestMatchers(
                                 "/api/v1/user/**",
                                 "/api/v1/host/**",
@@ -46,6 +47,7 @@ public class SecurityConfig {
                                 "/api/v1/sendVerification/**",
                                 "/api/v1/socialLogin",
                                 "/api/v1/socialRegister",
+                                "/.well-known/jwks.json",
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
@@ -55,36 +57,28 @@ public class SecurityConfig {
                         ).permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(adminApiKeyFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     /**
-     * 일반 사용자 인증 관리자 (User)
+     * {id} 접두사 기반 위임 인코더. 새 해시는 {bcrypt} 로 저장하고, 접두사가 없는 기존 해시도 BCrypt 로 검증한다.
+     * 해싱/검증은 전용 스레드 풀에서만 실행 (대기열 초과 시 AUTH_HASHING_BUSY)
      */
-    @Bean("userAuthenticationManager")
-    @Primary // 기본 AuthenticationManager로 사용됨
-    public AuthenticationManager userAuthenticationManager() {
-        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-        provider.setUserDetailsService(customUserDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
-        return new ProviderManager(provider);
-    }
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+                                                  MeterRegistry meterRegistry) {
 
-    /**
-     * 호스트 사용자 인증 관리자 (Host)
-     */
-    @Bean("hostAuthenticationManager")
-    public AuthenticationManager hostAuthenticationManager() {
-        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-        provider.setUserDetailsService(customHostDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
-        return new ProviderManager(provider);
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+                BCRYPT_ENCODING_ID,
+                Map.of(BCRYPT_ENCODING_ID, bCryptPasswordEncoder)
+        );
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, passwordHashingProperties, meterRegistry);
     }
 }
\ No newline at end of file
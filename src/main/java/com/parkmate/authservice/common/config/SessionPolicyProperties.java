@@ -0,0 +1,16 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.session")
+public class SessionPolicyProperties {
+
+    // 계정당 동시에 유지할 수 있는 기기(리프레시 토큰 세션) 수. 초과 시 가장 오래된 세션부터 폐기 (0 이하면 제한 없음)
+    private int maxDevices = 5;
+}
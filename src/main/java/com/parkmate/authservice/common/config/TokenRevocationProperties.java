@@ -0,0 +1,22 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.revocation")
+public class TokenRevocationProperties {
+
+    // 액세스 토큰 수명 동안 폐기될 것으로 예상되는 토큰 수 (Bloom filter 크기 산정용)
+    private long expectedInsertions = 100_000;
+
+    private double falsePositiveProbability = 0.01;
+
+    // 만료된 jti 를 털어내고 놓친 pub/sub 메시지를 보정하기 위해 Redis 기준으로 필터를 다시 만드는 주기
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+}
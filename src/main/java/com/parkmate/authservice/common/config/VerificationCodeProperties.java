@@ -0,0 +1,19 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.verification.code")
+public class VerificationCodeProperties {
+
+    // 인증코드 길이. 요청 VO 의 @VerificationCode 검증도 이 값을 따른다
+    private int length = 6;
+
+    // 인증코드에 쓰는 문자 (중복 없이 2~256자)
+    private String alphabet = "0123456789";
+}
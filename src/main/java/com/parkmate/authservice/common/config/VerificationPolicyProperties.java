@@ -0,0 +1,33 @@
+package com.parkmate.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.verification")
+public class VerificationPolicyProperties {
+
+    // 인증코드 유효 시간
+    private Duration codeTtl = Duration.ofMinutes(3);
+
+    // 재발송 대기 시간. 이 시간이 지나면 새 코드로 교체 발송할 수 있다
+    private Duration resendCooldown = Duration.ofSeconds(60);
+
+    // sendWindow 동안 보낼 수 있는 최대 발송 횟수 (첫 발송 시점부터 계산)
+    private int dailySendLimit = 10;
+
+    private Duration sendWindow = Duration.ofHours(24);
+
+    // 인증코드 입력 실패 허용 횟수와 차단 시간. 허용 횟수를 넘긴 실패(기본 6번째)는 그 요청부터 차단 응답을 받는다
+    private int attemptLimit = 5;
+
+    private Duration blockDuration = Duration.ofMinutes(10);
+
+    // 인증코드 HMAC 키 (Base64, 32바이트 이상). 코드 공간이 작아 키 없는 해시는 Redis 만 읽으면 바로 역산되므로 필수
+    private String codeDigestSecret;
+}
@@ -0,0 +1,68 @@
+package com.parkmate.authservice.common.generator;
+
+import com.parkmate.authservice.common.config.VerificationCodeProperties;
+import org.springframework.stereotype.Component;
+import java.security.SecureRandom;
+
+/**
+ * SecureRandom 기반 인증코드 생성기.
+ * 스레드마다 SecureRandom 과 바이트/문자 버퍼를 하나씩 두어 잠금 경합이 없고, 호출당 할당은 결과 String 하나뿐이다.
+ * 바이트를 알파벳 크기로 나눌 때 생기는 편향은 거절 샘플링으로 제거한다.
+ */
+@Component
+public class SecureRandomVerificationCodeGenerator implements VerificationCodeGenerator {
+
+    private static final int BYTE_RANGE = 256;
+
+    private final char[] alphabet;
+    private final int length;
+    // 이 값 이상인 바이트는 버린다 (BYTE_RANGE 를 알파벳 크기의 배수로 자른 경계)
+    private final int rejectionThreshold;
+
+    private final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(SecureRandom::new);
+    private final ThreadLocal<Buffers> buffers;
+
+    public SecureRandomVerificationCodeGenerator(VerificationCodeProperties verificationCodeProperties) {
+
+        String alphabet = verificationCodeProperties.getAlphabet();
+        int length = verificationCodeProperties.getLength();
+
+        if (length < 1) {
+            throw new IllegalArgumentException("인증코드 길이는 1 이상이어야 합니다.");
+        }
+        if (alphabet == null || alphabet.length() < 2 || alphabet.length() > BYTE_RANGE
+                || alphabet.chars().distinct().count() != alphabet.length()) {
+            throw new IllegalArgumentException("인증코드 알파벳은 중복 없는 2~256자여야 합니다.");
+        }
+
+        this.alphabet = alphabet.toCharArray();
+        this.length = length;
+        this.rejectionThreshold = BYTE_RANGE - (BYTE_RANGE % this.alphabet.length);
+        // 거절되는 바이트를 감안해 코드 길이의 두 배를 한 번에 채운다
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(new byte[length * 2], new char[length]));
+    }
+
+    @Override
+    public String generate() {
+
+        SecureRandom secureRandom = random.get();
+        Buffers buffer = buffers.get();
+        byte[] randomBytes = buffer.randomBytes();
+        char[] code = buffer.code();
+
+        int filled = 0;
+        while (filled < length) {
+            secureRandom.nextBytes(randomBytes);
+            for (int i = 0; i < randomBytes.length && filled < length; i++) {
+                int value = randomBytes[i] & 0xFF;
+                if (value < rejectionThreshold) {
+                    code[filled++] = alphabet[value % alphabet.length];
+                }
+            }
+        }
+        return new String(code);
+    }
+
+    private record Buffers(byte[] randomBytes, char[] code) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.parkmate.authservice.common.generator;
+
+public interface VerificationCodeGenerator {
+
+    String generate();
+}
@@ -0,0 +1,217 @@
+package com.parkmate.authservice.common.mail;
+
+import com.parkmate.authservice.common.config.MailDispatchProperties;
+import com.parkmate.authservice.common.exception.BaseException;
+import com.parkmate.authservice.common.response.ResponseStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 비동기 발송. 요청 스레드는 대기열에 넣기만 하고 바로 반환한다.
+ * 발송 스레드는 대기열에서 최대 batchSize 건을 꺼내 JavaMailSender.send(varargs) 로 보내므로 SMTP 연결 하나로 여러 건을 처리한다.
+ * 실패한 메일만 지수 백오프로 다시 대기열에 넣고, maxAttempts 를 넘기면 버리고 기록한다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "auth.mail";
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final JavaMailSender mailSender;
+    private final MailDispatchProperties mailDispatchProperties;
+    private final BlockingQueue<MailTask> queue;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running = true;
+
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public MailDispatcher(JavaMailSender mailSender,
+                          MailDispatchProperties mailDispatchProperties,
+                          MeterRegistry meterRegistry) {
+
+        this.mailSender = mailSender;
+        this.mailDispatchProperties = mailDispatchProperties;
+        this.queue = new ArrayBlockingQueue<>(mailDispatchProperties.getQueueCapacity());
+
+        int workerCount = Math.max(mailDispatchProperties.getWorkers(), 1);
+        this.workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("mail-dispatch-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mail-retry-"));
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder(METRIC_PREFIX + ".send")
+                .description("SMTP 연결 한 번(묶음 발송)에 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder(METRIC_PREFIX + ".sent")
+                .description("발송에 성공한 메일 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder(METRIC_PREFIX + ".retried")
+                .description("재시도 대기열로 돌려보낸 메일 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+                .description("최대 시도 횟수를 넘겨 버려진 메일 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열이 가득 차 거절된 메일 수")
+                .register(meterRegistry);
+
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+
+        log.info("메일 발송기 초기화 - 스레드: {}, 대기열: {}, 묶음: {}",
+                workerCount, mailDispatchProperties.getQueueCapacity(), mailDispatchProperties.getBatchSize());
+    }
+
+    /**
+     * 대기열에 넣고 바로 반환한다. 대기열이 가득 차 있으면 AUTH_MAIL_QUEUE_FULL
+     */
+    public void enqueue(MimeMessage message) {
+        if (!running || !queue.offer(new MailTask(message, recipientsOf(message), 1))) {
+            rejectedCounter.increment();
+            throw new BaseException(ResponseStatus.AUTH_MAIL_QUEUE_FULL);
+        }
+    }
+
+    private void runWorker() {
+
+        int batchSize = Math.max(mailDispatchProperties.getBatchSize(), 1);
+        List<MailTask> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                MailTask first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 발송 스레드는 어떤 경우에도 살아 있어야 한다
+                log.error("메일 발송 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<MailTask> batch) {
+
+        MimeMessage[] messages = batch.stream()
+                .map(MailTask::message)
+                .toArray(MimeMessage[]::new);
+
+        Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages);
+            sentCounter.increment(batch.size());
+        } catch (MailSendException e) {
+            // 연결 실패면 failedMessages 가 비어 있거나 전체가 담겨 있고, 개별 실패면 해당 메일만 담겨 있다
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (MailTask task : batch) {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(task.message())) {
+                    retryOrDrop(task, failedMessages.getOrDefault(task.message(), e));
+                } else {
+                    sentCounter.increment();
+                }
+            }
+        } catch (MailException e) {
+            batch.forEach(task -> retryOrDrop(task, e));
+        } finally {
+            sample.stop(sendTimer);
+        }
+    }
+
+    private void retryOrDrop(MailTask task, Exception cause) {
+
+        if (task.attempts() >= mailDispatchProperties.getMaxAttempts() || !running) {
+            failedCounter.increment();
+            log.error("메일 발송 최종 실패 - 수신자: {}, 시도: {}, 사유: {}",
+                    task.recipients(), task.attempts(), cause.getMessage());
+            return;
+        }
+
+        MailTask retryTask = new MailTask(task.message(), task.recipients(), task.attempts() + 1);
+        retriedCounter.increment();
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(retryTask)) {
+                failedCounter.increment();
+                log.error("메일 재시도 대기열 초과로 버림 - 수신자: {}", retryTask.recipients());
+            }
+        }, backoff(task.attempts()).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration initialBackoff = mailDispatchProperties.getInitialBackoff();
+        Duration maxBackoff = mailDispatchProperties.getMaxBackoff();
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /**
+     * 새 요청은 받지 않고, 이미 대기열에 있는 메일은 보낸 뒤 종료한다
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("메일 발송기 종료 시간 초과 - 남은 메일: {}", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    // 로그용 수신자 목록은 큐에 넣을 때 한 번만 꺼내 둔다
+    private String recipientsOf(MimeMessage message) {
+        try {
+            Address[] recipients = message.getAllRecipients();
+            return recipients != null
+                    ? Arrays.stream(recipients).map(Address::toString).collect(Collectors.joining(","))
+                    : "";
+        } catch (MessagingException e) {
+            return "";
+        }
+    }
+
+    private record MailTask(MimeMessage message, String recipients, int attempts) {
+    }
+}
@@ -1,48 +1,56 @@
 package com.parkmate.authservice.common.mail;
 
+import com.parkmate.authservice.common.config.VerificationPolicyProperties;
+import com.parkmate.authservice.common.mail.template.MailTemplateRegistry;
+import com.parkmate.authservice.common.mail.template.MailTemplateRegistry.RenderedMail;
+import com.parkmate.authservice.common.mail.template.MailTemplateType;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import java.util.Random;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
+/**
+ * 컴파일된 템플릿으로 텍스트 + HTML 메일을 만들어 MailDispatcher 대기열에 넣는다. 실제 SMTP 발송은 요청 스레드 밖에서 처리된다.
+ */
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
     private final JavaMailSender mailSender;
-
-    private static final int VERIFICATION_CODE_LENGTH = 6;
-    private static final int VERIFICATION_CODE_BOUND = (int) Math.pow(10, VERIFICATION_CODE_LENGTH);
+    private final MailDispatcher mailDispatcher;
+    private final MailTemplateRegistry mailTemplateRegistry;
+    private final VerificationPolicyProperties verificationPolicyProperties;
 
     public void sendAccountLockEmail(String email, String name) {
-
-        String subject = MailMessageConstants.ACCOUNT_LOCKED_SUBJECT;
-        String body = String.format(MailMessageConstants.ACCOUNT_LOCKED_BODY_TEMPLATE, name);
-
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(email);
-        message.setSubject(subject);
-        message.setText(body);
-
-        mailSender.send(message);
+        send(email, MailTemplateType.ACCOUNT_LOCKED, Map.of("name", name != null ? name : ""));
     }
 
     public void sendVerificationEmail(String email, String code) {
+        send(email, MailTemplateType.VERIFICATION_CODE, Map.of(
+                "code", code,
+                "expiresInMinutes", String.valueOf(verificationPolicyProperties.getCodeTtl().toMinutes())
+        ));
+    }
 
-        String subject = MailMessageConstants.VERIFICATION_CODE_SUBJECT;
-        String body = String.format(MailMessageConstants.VERIFICATION_CODE_BODY_TEMPLATE, code);
+    private void send(String email, MailTemplateType type, Map<String, String> values) {
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(email);
-        message.setSubject(subject);
-        message.setText(body);
+        RenderedMail renderedMail = mailTemplateRegistry.render(type, values);
 
-        mailSender.send(message);
-    }
+        // 메시지 객체만 만들고 SMTP 연결은 열지 않는다
+        MimeMessage message = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, StandardCharsets.UTF_8.name());
+            helper.setTo(email);
+            helper.setSubject(renderedMail.subject());
+            helper.setText(renderedMail.text(), renderedMail.html());
+        } catch (MessagingException e) {
+            throw new IllegalStateException("메일 메시지 생성에 실패했습니다.", e);
+        }
 
-    public String generateVerificationCode() {
-        int code = new Random().nextInt(VERIFICATION_CODE_BOUND);
-        return String.format("%0" + VERIFICATION_CODE_LENGTH + "d", code);
+        mailDispatcher.enqueue(message);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.parkmate.authservice.common.mail.template;
+
+import org.springframework.web.util.HtmlUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {{변수}} 자리표시자를 미리 쪼개 둔 템플릿. 고정 문구는 컴파일 시 한 번만 잘라 두고,
+ * 렌더링은 고정 문구와 값을 미리 크기를 잡은 StringBuilder 에 이어 붙이기만 한다 (형식 문자열 재해석 없음).
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    // literals.length == variables.length + 1 (literals[i] 다음에 variables[i] 가 온다)
+    private final String[] literals;
+    private final String[] variables;
+    private final boolean html;
+    private final int estimatedLength;
+
+    private MailTemplate(String[] literals, String[] variables, boolean html) {
+        this.literals = literals;
+        this.variables = variables;
+        this.html = html;
+
+        int staticLength = 0;
+        for (String literal : literals) {
+            staticLength += literal.length();
+        }
+        this.estimatedLength = staticLength + variables.length * ESTIMATED_VALUE_LENGTH;
+    }
+
+    /**
+     * @param html true 이면 값은 HTML 이스케이프 후 삽입된다
+     */
+    public static MailTemplate compile(String source, boolean html) {
+
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int cursor = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, cursor);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 변수: " + source.substring(open));
+            }
+            literals.add(source.substring(cursor, open));
+            variables.add(source.substring(open + OPEN.length(), close).trim());
+            cursor = close + CLOSE.length();
+        }
+        literals.add(source.substring(cursor));
+
+        return new MailTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new), html);
+    }
+
+    public String render(Map<String, String> values) {
+
+        if (variables.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder rendered = new StringBuilder(estimatedLength);
+        for (int i = 0; i < variables.length; i++) {
+            rendered.append(literals[i]);
+            String value = values.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("템플릿 변수 값이 없습니다: " + variables[i]);
+            }
+            rendered.append(html ? HtmlUtils.htmlEscape(value) : value);
+        }
+        rendered.append(literals[variables.length]);
+        return rendered.toString();
+    }
+}
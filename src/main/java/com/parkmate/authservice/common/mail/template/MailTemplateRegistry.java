@@ -0,0 +1,39 @@
+package com.parkmate.authservice.common.mail.template;
+
+import org.springframework.stereotype.Component;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 모든 메일 템플릿을 기동 시 한 번 컴파일해 보관한다. 잘못된 템플릿은 기동 단계에서 실패한다.
+ */
+@Component
+public class MailTemplateRegistry {
+
+    private final Map<MailTemplateType, CompiledMail> templates = new EnumMap<>(MailTemplateType.class);
+
+    public MailTemplateRegistry() {
+        for (MailTemplateType type : MailTemplateType.values()) {
+            templates.put(type, new CompiledMail(
+                    MailTemplate.compile(type.getSubject(), false),
+                    MailTemplate.compile(type.getTextSource(), false),
+                    MailTemplate.compile(type.getHtmlSource(), true)
+            ));
+        }
+    }
+
+    public RenderedMail render(MailTemplateType type, Map<String, String> values) {
+        CompiledMail compiledMail = templates.get(type);
+        return new RenderedMail(
+                compiledMail.subject().render(values),
+                compiledMail.text().render(values),
+                compiledMail.html().render(values)
+        );
+    }
+
+    private record CompiledMail(MailTemplate subject, MailTemplate text, MailTemplate html) {
+    }
+
+    public record RenderedMail(String subject, String text, String html) {
+    }
+}
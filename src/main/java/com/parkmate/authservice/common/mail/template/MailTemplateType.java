@@ -0,0 +1,25 @@
+package com.parkmate.authservice.common.mail.template;
+
+import com.parkmate.authservice.common.mail.MailMessageConstants;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplateType {
+
+    VERIFICATION_CODE(
+            MailMessageConstants.VERIFICATION_CODE_SUBJECT,
+            MailMessageConstants.VERIFICATION_CODE_BODY_TEMPLATE,
+            MailMessageConstants.VERIFICATION_CODE_HTML_TEMPLATE
+    ),
+    ACCOUNT_LOCKED(
+            MailMessageConstants.ACCOUNT_LOCKED_SUBJECT,
+            MailMessageConstants.ACCOUNT_LOCKED_BODY_TEMPLATE,
+            MailMessageConstants.ACCOUNT_LOCKED_HTML_TEMPLATE
+    );
+
+    private final String subject;
+    private final String textSource;
+    private final String htmlSource;
+}
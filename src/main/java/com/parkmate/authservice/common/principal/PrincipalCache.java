@@ -0,0 +1,201 @@
+package com.parkmate.authservice.common.principal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.parkmate.authservice.common.config.PrincipalCacheProperties;
+import com.parkmate.authservice.common.roletype.RoleType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 계정 projection 2단 캐시. L1 은 노드별 Caffeine, L2 는 노드 공용 Redis(JSON).
+ * 잠금·비밀번호 변경 시 L2 를 지우고 pub/sub 으로 모든 노드의 L1 을 무효화한다.
+ * Redis 장애 시에는 L1 과 DB 로만 동작한다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "auth:principal:invalidated";
+
+    private static final String CACHE_NAME = "auth.principal";
+    private static final String KEY_PREFIX_USER = "principal:user:";
+    private static final String KEY_PREFIX_HOST = "principal:host:";
+    private static final String MESSAGE_DELIMITER = "\n";
+
+    private final Cache<String, PrincipalSnapshot> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PrincipalCacheProperties principalCacheProperties;
+
+    public PrincipalCache(RedisTemplate<String, String> redisTemplate,
+                          ObjectMapper objectMapper,
+                          PrincipalCacheProperties principalCacheProperties,
+                          MeterRegistry meterRegistry) {
+
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.principalCacheProperties = principalCacheProperties;
+
+        Cache<String, PrincipalSnapshot> cache = Caffeine.newBuilder()
+                .maximumSize(principalCacheProperties.getLocalMaximumSize())
+                .expireAfterWrite(principalCacheProperties.getLocalTtl())
+                .recordStats()
+                .build();
+        this.localCache = CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * L1 만 조회 (Redis·DB 를 거치지 않음). 로그인처럼 어차피 DB 를 읽는 경로에서 왕복을 늘리지 않을 때 사용
+     */
+    public Optional<PrincipalSnapshot> findLocalByEmail(RoleType roleType, String email) {
+        return Optional.ofNullable(localCache.getIfPresent(buildEmailKey(roleType, email)));
+    }
+
+    public Optional<PrincipalSnapshot> getByUuid(RoleType roleType,
+                                                 String uuid,
+                                                 Supplier<Optional<PrincipalSnapshot>> loader) {
+        return get(buildUuidKey(roleType, uuid), loader);
+    }
+
+    /**
+     * L1 의 email / uuid 두 키에만 저장
+     */
+    public void putLocal(PrincipalSnapshot snapshot) {
+        localCache.put(buildEmailKey(snapshot.getRole(), snapshot.getEmail()), snapshot);
+        localCache.put(buildUuidKey(snapshot.getRole(), snapshot.getUuid()), snapshot);
+    }
+
+    /**
+     * email / uuid 두 키 모두에 저장 (L2 는 파이프라인 1회 왕복)
+     */
+    public void put(PrincipalSnapshot snapshot) {
+
+        String emailKey = buildEmailKey(snapshot.getRole(), snapshot.getEmail());
+        String uuidKey = buildUuidKey(snapshot.getRole(), snapshot.getUuid());
+
+        localCache.put(emailKey, snapshot);
+        localCache.put(uuidKey, snapshot);
+
+        String json = serialize(snapshot);
+        if (json == null) {
+            return;
+        }
+
+        long ttlMillis = principalCacheProperties.getRemoteTtl().toMillis();
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    stringOperations.opsForValue().set(emailKey, json, ttlMillis, TimeUnit.MILLISECONDS);
+                    stringOperations.opsForValue().set(uuidKey, json, ttlMillis, TimeUnit.MILLISECONDS);
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("계정 캐시 L2 저장 실패 - key: {}", emailKey, e);
+        }
+    }
+
+    /**
+     * 잠금·비밀번호 변경 등 계정 상태가 바뀌면 호출. L2 삭제 후 모든 노드의 L1 을 무효화한다.
+     */
+    public void invalidate(RoleType roleType, String email, String uuid) {
+
+        String emailKey = buildEmailKey(roleType, email);
+        String uuidKey = buildUuidKey(roleType, uuid);
+        List<String> keys = List.of(emailKey, uuidKey);
+
+        localCache.invalidateAll(keys);
+        try {
+            redisTemplate.delete(keys);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, emailKey + MESSAGE_DELIMITER + uuidKey);
+        } catch (DataAccessException e) {
+            log.warn("계정 캐시 무효화 전파 실패 - key: {}", emailKey, e);
+        }
+    }
+
+    /**
+     * 다른 노드(및 자신)가 발행한 무효화 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        localCache.invalidateAll(Arrays.asList(body.split(MESSAGE_DELIMITER)));
+    }
+
+    private Optional<PrincipalSnapshot> get(String key, Supplier<Optional<PrincipalSnapshot>> loader) {
+
+        Optional<PrincipalSnapshot> cached = find(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<PrincipalSnapshot> loaded = loader.get();
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    private Optional<PrincipalSnapshot> find(String key) {
+
+        PrincipalSnapshot local = localCache.getIfPresent(key);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        PrincipalSnapshot remote = readRemote(key);
+        if (remote != null) {
+            localCache.put(key, remote);
+        }
+        return Optional.ofNullable(remote);
+    }
+
+    private PrincipalSnapshot readRemote(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json != null ? objectMapper.readValue(json, PrincipalSnapshot.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("계정 캐시 L2 조회 실패 - key: {}", key, e);
+            return null;
+        }
+    }
+
+    private String serialize(PrincipalSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            log.warn("계정 캐시 직렬화 실패 - uuid: {}", snapshot.getUuid(), e);
+            return null;
+        }
+    }
+
+    private String buildEmailKey(RoleType roleType, String email) {
+        return keyPrefix(roleType) + "email:" + email.trim();
+    }
+
+    private String buildUuidKey(RoleType roleType, String uuid) {
+        return keyPrefix(roleType) + "uuid:" + uuid;
+    }
+
+    private String keyPrefix(RoleType roleType) {
+        return roleType == RoleType.HOST ? KEY_PREFIX_HOST : KEY_PREFIX_USER;
+    }
+}
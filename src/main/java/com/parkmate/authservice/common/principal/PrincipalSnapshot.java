@@ -0,0 +1,44 @@
+package com.parkmate.authservice.common.principal;
+
+import com.parkmate.authservice.common.roletype.RoleType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인증 경로에서 자주 읽는 계정 정보만 담은 캐시용 projection. 비밀번호 해시는 담지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+public class PrincipalSnapshot {
+
+    private String uuid;
+    private String email;
+    private RoleType role;
+    private boolean locked;
+
+    @Builder
+    private PrincipalSnapshot(String uuid,
+                              String email,
+                              RoleType role,
+                              boolean locked) {
+
+        this.uuid = uuid;
+        this.email = email;
+        this.role = role;
+        this.locked = locked;
+    }
+
+    public static PrincipalSnapshot of(String uuid,
+                                       String email,
+                                       RoleType role,
+                                       boolean locked) {
+
+        return PrincipalSnapshot.builder()
+                .uuid(uuid)
+                .email(email)
+                .role(role)
+                .locked(locked)
+                .build();
+    }
+}
@@ -0,0 +1,241 @@
+package com.parkmate.authservice.common.redis;
+
+import org.springframework.data.redis.core.script.RedisScript;
+import java.util.List;
+
+/**
+ * 여러 번의 왕복이 필요하던 Redis 연산을 한 번의 EVALSHA 로 원자적으로 처리하는 Lua 스크립트 모음
+ */
+public final class RedisScripts {
+
+    private RedisScripts() {
+    }
+
+    /**
+     * 카운터 증가 + TTL 설정 (+ 한도 도달 시 TTL 연장)
+     * KEYS[1]: 카운터 키 / ARGV[1]: 기본 TTL(ms), ARGV[2]: 한도(0 이면 미사용), ARGV[3]: 한도 도달 시 TTL(ms)
+     * 반환: 증가 후 카운트
+     */
+    public static final RedisScript<Long> INCREMENT_WITH_TTL = RedisScript.of("""
+            local count = redis.call('INCR', KEYS[1])
+            if count == 1 or redis.call('PTTL', KEYS[1]) < 0 then
+              redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            local limit = tonumber(ARGV[2])
+            if limit > 0 and count == limit then
+              redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            end
+            return count
+            """, Long.class);
+
+    /**
+     * 인증코드 발송 등록. 차단 → 재발송 대기 → 발송 한도를 한 번에 확인하고, 통과하면 기존 코드를 새 코드로 교체한다.
+     * 발송 한도는 첫 발송 시점부터 sendWindow 동안 유지된다. 입력 실패 횟수는 재발송해도 유지되고 발송 한도 구간이 새로 시작될 때만 초기화된다.
+     * 교체 전 코드는 prev* 필드에 남겨 두어, 메일을 보내지 못해 취소하면 되돌릴 수 있게 한다.
+     * 키 만료는 코드 만료와 발송 한도 구간 끝 중 늦은 쪽으로만 늘린다.
+     * KEYS[1]: 인증 Hash 키
+     * ARGV[1]: 코드 digest, ARGV[2]: 현재 시각(ms), ARGV[3]: 코드 유효 시간(ms), ARGV[4]: 재발송 대기(ms),
+     * ARGV[5]: 발송 한도, ARGV[6]: 발송 한도 구간(ms)
+     * 반환: { 결과(1 발송, -1 재발송 대기, -2 발송 한도 초과, -3 차단), 다시 요청 가능까지 남은 시간(ms), 남은 발송 횟수 }
+     */
+    public static final RedisScript<List> SEND_VERIFICATION = RedisScript.of("""
+            local now = tonumber(ARGV[2])
+            local cooldown = tonumber(ARGV[4])
+            local limit = tonumber(ARGV[5])
+            local window = tonumber(ARGV[6])
+            local fields = redis.call('HMGET', KEYS[1], 'blockedUntil', 'lastSentAt', 'firstSentAt', 'sends', 'digest', 'codeExpiresAt')
+            local blockedUntil = tonumber(fields[1] or '0')
+            local lastSentAt = tonumber(fields[2] or '0')
+            local firstSentAt = tonumber(fields[3] or '0')
+            local sends = tonumber(fields[4] or '0')
+            if blockedUntil > now then
+              return { -3, blockedUntil - now, math.max(limit - sends, 0) }
+            end
+            local windowReset = firstSentAt == 0 or firstSentAt + window <= now
+            if windowReset then
+              firstSentAt = now
+              sends = 0
+            end
+            if lastSentAt + cooldown > now then
+              return { -1, lastSentAt + cooldown - now, limit - sends }
+            end
+            if sends >= limit then
+              return { -2, firstSentAt + window - now, 0 }
+            end
+            sends = sends + 1
+            local codeExpiresAt = now + tonumber(ARGV[3])
+            redis.call('HSET', KEYS[1],
+              'prevDigest', fields[5] or '', 'prevCodeExpiresAt', fields[6] or '0', 'prevLastSentAt', lastSentAt,
+              'digest', ARGV[1], 'codeExpiresAt', codeExpiresAt,
+              'lastSentAt', now, 'firstSentAt', firstSentAt, 'sends', sends)
+            if windowReset then
+              redis.call('HSET', KEYS[1], 'attempts', 0, 'blockedUntil', 0)
+            end
+            local expireAt = math.max(codeExpiresAt, firstSentAt + window)
+            local pttl = redis.call('PTTL', KEYS[1])
+            if pttl < 0 or now + pttl < expireAt then
+              redis.call('PEXPIREAT', KEYS[1], expireAt)
+            end
+            return { 1, cooldown, limit - sends }
+            """, List.class);
+
+    /**
+     * 방금 등록한 코드를 취소 (메일을 대기열에 넣지 못한 경우). 교체 전 코드와 마지막 발송 시각을 되돌리고 발송 횟수를 하나 줄인다.
+     * 교체 전 코드가 아직 유효하면 사용자는 그 코드로 계속 인증할 수 있다.
+     * KEYS[1]: 인증 Hash 키 / ARGV[1]: 등록한 코드 digest
+     * 반환: 1 취소, 0 이미 다른 코드로 바뀌었거나 없음
+     */
+    public static final RedisScript<Long> CANCEL_VERIFICATION = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'digest') ~= ARGV[1] then
+              return 0
+            end
+            local prev = redis.call('HMGET', KEYS[1], 'prevDigest', 'prevCodeExpiresAt', 'prevLastSentAt')
+            if prev[1] and prev[1] ~= '' then
+              redis.call('HSET', KEYS[1], 'digest', prev[1], 'codeExpiresAt', prev[2] or '0')
+            else
+              redis.call('HDEL', KEYS[1], 'digest', 'codeExpiresAt')
+            end
+            redis.call('HSET', KEYS[1], 'lastSentAt', prev[3] or '0')
+            redis.call('HDEL', KEYS[1], 'prevDigest', 'prevCodeExpiresAt', 'prevLastSentAt')
+            redis.call('HINCRBY', KEYS[1], 'sends', -1)
+            return 1
+            """, Long.class);
+
+    /**
+     * 차단 확인 → 코드 비교 → 실패 시 실패 횟수 증가(허용 횟수를 넘긴 실패는 그 시도부터 차단), 성공 시 실패 횟수 초기화. 코드는 삭제하지 않는다.
+     * 차단 시간이 지났으면 실패 횟수부터 초기화한다.
+     * KEYS[1]: 인증 Hash 키
+     * ARGV[1]: 입력 코드 digest, ARGV[2]: 현재 시각(ms), ARGV[3]: 허용 실패 횟수, ARGV[4]: 차단 시간(ms)
+     * 반환: -1 차단 상태(이번 실패로 차단된 경우 포함), 0 일치, n 불일치 누적 횟수
+     */
+    public static final RedisScript<Long> VERIFY_VERIFICATION = RedisScript.of("""
+            local now = tonumber(ARGV[2])
+            local blockedUntil = tonumber(redis.call('HGET', KEYS[1], 'blockedUntil') or '0')
+            if blockedUntil > now then
+              return -1
+            end
+            if blockedUntil > 0 then
+              redis.call('HSET', KEYS[1], 'attempts', 0, 'blockedUntil', 0)
+            end
+            local codeExpiresAt = tonumber(redis.call('HGET', KEYS[1], 'codeExpiresAt') or '0')
+            if codeExpiresAt > now and redis.call('HGET', KEYS[1], 'digest') == ARGV[1] then
+              redis.call('HSET', KEYS[1], 'attempts', 0)
+              return 0
+            end
+            local existed = redis.call('EXISTS', KEYS[1])
+            local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+            local blockMillis = tonumber(ARGV[4])
+            if existed == 0 then
+              redis.call('PEXPIRE', KEYS[1], blockMillis)
+            end
+            if attempts > tonumber(ARGV[3]) then
+              blockedUntil = now + blockMillis
+              redis.call('HSET', KEYS[1], 'blockedUntil', blockedUntil)
+              local pttl = redis.call('PTTL', KEYS[1])
+              if pttl < 0 or now + pttl < blockedUntil then
+                redis.call('PEXPIREAT', KEYS[1], blockedUntil)
+              end
+              return -1
+            end
+            return attempts
+            """, Long.class);
+
+    /**
+     * 코드가 일치하고 차단 상태가 아니면 코드를 삭제 (가입 시 1회 사용 처리). 발송 기록은 키 만료까지 남는다.
+     * KEYS[1]: 인증 Hash 키 / ARGV[1]: 입력 코드 digest, ARGV[2]: 현재 시각(ms)
+     * 반환: 1 일치 후 삭제, 0 불일치/만료/차단
+     */
+    public static final RedisScript<Long> CONSUME_VERIFICATION = RedisScript.of("""
+            local now = tonumber(ARGV[2])
+            if tonumber(redis.call('HGET', KEYS[1], 'blockedUntil') or '0') > now then
+              return 0
+            end
+            local codeExpiresAt = tonumber(redis.call('HGET', KEYS[1], 'codeExpiresAt') or '0')
+            if codeExpiresAt <= now or redis.call('HGET', KEYS[1], 'digest') ~= ARGV[1] then
+              return 0
+            end
+            redis.call('HDEL', KEYS[1], 'digest', 'codeExpiresAt')
+            redis.call('HSET', KEYS[1], 'attempts', 0)
+            return 1
+            """, Long.class);
+
+    /**
+     * 기기별 세션 저장. 만료된 field 정리 → 기기 수 한도 초과 시 오래된 세션부터 제거 → 저장 → 키 만료를 가장 늦은 세션에 맞춘다.
+     * (+ 로그인 실패 카운터 키가 주어지면 함께 삭제)
+     * KEYS[1]: 세션 Hash 키, KEYS[2]: 로그인 실패 카운터 키(선택)
+     * ARGV[1]: sessionId, ARGV[2]: "digest|issuedAt|expiresAt", ARGV[3]: 현재 시각(ms), ARGV[4]: 새 세션 만료 시각(ms), ARGV[5]: 기기 수 한도(0 이하면 미사용)
+     * 반환: 한도 초과로 제거된 세션 수
+     */
+    public static final RedisScript<Long> SAVE_SESSION = RedisScript.of("""
+            local now = tonumber(ARGV[3])
+            local limit = tonumber(ARGV[5])
+            local entries = redis.call('HGETALL', KEYS[1])
+            local live = {}
+            for i = 1, #entries, 2 do
+              local issuedAt, expiresAt = string.match(entries[i + 1], '^[^|]*|(%d+)|(%d+)$')
+              if not expiresAt or tonumber(expiresAt) <= now then
+                redis.call('HDEL', KEYS[1], entries[i])
+              elseif entries[i] ~= ARGV[1] then
+                table.insert(live, { entries[i], tonumber(issuedAt), tonumber(expiresAt) })
+              end
+            end
+            local evicted = 0
+            if limit > 0 and #live >= limit then
+              table.sort(live, function(a, b) return a[2] < b[2] end)
+              evicted = #live - limit + 1
+              for i = 1, evicted do
+                redis.call('HDEL', KEYS[1], live[i][1])
+              end
+            end
+            local maxExpiresAt = tonumber(ARGV[4])
+            for i = evicted + 1, #live do
+              if live[i][3] > maxExpiresAt then
+                maxExpiresAt = live[i][3]
+              end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIREAT', KEYS[1], maxExpiresAt)
+            if KEYS[2] then
+              redis.call('DEL', KEYS[2])
+            end
+            return evicted
+            """, Long.class);
+
+    /**
+     * 세션의 토큰 digest 가 일치할 때만 새 토큰으로 교체. 불일치(이미 교체된 토큰 재사용)면 해당 세션을 폐기한다.
+     * KEYS[1]: 세션 Hash 키
+     * ARGV[1]: sessionId, ARGV[2]: 제시된 토큰 digest, ARGV[3]: 새 "digest|issuedAt|expiresAt", ARGV[4]: 현재 시각(ms), ARGV[5]: 새 만료 시각(ms)
+     * 반환: 1 교체, 0 세션 없음/만료, -1 재사용 감지(세션 삭제)
+     */
+    public static final RedisScript<Long> ROTATE_SESSION = RedisScript.of("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if not current then
+              return 0
+            end
+            local digest, _, expiresAt = string.match(current, '^([^|]*)|(%d+)|(%d+)$')
+            if not expiresAt or tonumber(expiresAt) <= tonumber(ARGV[4]) then
+              redis.call('HDEL', KEYS[1], ARGV[1])
+              return 0
+            end
+            if digest ~= ARGV[2] then
+              redis.call('HDEL', KEYS[1], ARGV[1])
+              return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            local remaining = tonumber(ARGV[5]) - tonumber(ARGV[4])
+            if redis.call('PTTL', KEYS[1]) < remaining then
+              redis.call('PEXPIRE', KEYS[1], remaining)
+            end
+            return 1
+            """, Long.class);
+
+    public static final List<RedisScript<?>> ALL = List.of(
+            INCREMENT_WITH_TTL,
+            SEND_VERIFICATION,
+            CANCEL_VERIFICATION,
+            VERIFY_VERIFICATION,
+            CONSUME_VERIFICATION,
+            SAVE_SESSION,
+            ROTATE_SESSION
+    );
+}
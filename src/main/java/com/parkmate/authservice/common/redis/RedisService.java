@@ -1,12 +1,24 @@
 package com.parkmate.authservice.common.redis;
 
+import com.parkmate.authservice.common.config.SessionPolicyProperties;
+import com.parkmate.authservice.common.config.VerificationPolicyProperties;
+import com.parkmate.authservice.common.generator.DigestGenerator;
 import com.parkmate.authservice.common.roletype.RoleType;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -14,113 +26,250 @@ import java.util.concurrent.TimeUnit;
 public class RedisService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final SessionPolicyProperties sessionPolicyProperties;
+    private final VerificationPolicyProperties verificationPolicyProperties;
 
     // ==================== Redis Key Prefix ====================
-    private static final String EMAIL_VERIFICATION_PREFIX_USER = "email:verification:code:user:";
-    private static final String EMAIL_VERIFICATION_PREFIX_HOST = "email:verification:code:host:";
-    private static final String VERIFY_FAIL_PREFIX_USER = "verify:fail:user:";
-    private static final String VERIFY_FAIL_PREFIX_HOST = "verify:fail:host:";
+    // 이메일 인증 한 건 = Hash 하나 (digest, codeExpiresAt, attempts, blockedUntil, sends, firstSentAt, lastSentAt + 취소 시 되돌릴 prev* 필드)
+    private static final String VERIFICATION_PREFIX_USER = "verification:user:";
+    private static final String VERIFICATION_PREFIX_HOST = "verification:host:";
     private static final String LOGIN_FAIL_PREFIX_USER = "login:fail:user:";
     private static final String LOGIN_FAIL_PREFIX_HOST = "login:fail:host:";
-    private static final String REFRESH_TOKEN_PREFIX = "refresh:";
+    private static final String SESSION_PREFIX_USER = "session:user:";
+    private static final String SESSION_PREFIX_HOST = "session:host:";
 
     // ==================== TTL 설정 ====================
     private static final Duration LOGIN_FAIL_TTL = Duration.ofMinutes(15);
-    private static final Duration VERIFY_FAIL_BLOCK_TTL = Duration.ofMinutes(10);
-    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(14);
-    private static final int VERIFY_FAIL_LIMIT = 5;
 
-    // ==================== 이메일 인증 코드 ====================
+    // 인증코드 HMAC 키 (기동 시 설정값을 Base64 디코딩)
+    private byte[] codeDigestSecret;
 
-    public void saveVerificationCode(String email, String code, Duration ttl, RoleType roleType) {
-        redisTemplate.opsForValue().set(buildEmailVerificationKey(email, roleType), code, ttl.toMillis(), TimeUnit.MILLISECONDS);
+    @PostConstruct
+    void loadCodeDigestSecret() {
+        String secret = verificationPolicyProperties.getCodeDigestSecret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("auth.verification.code-digest-secret 가 설정되지 않았습니다.");
+        }
+        byte[] decoded = Base64.getDecoder().decode(secret.trim());
+        if (decoded.length < 32) {
+            throw new IllegalStateException("auth.verification.code-digest-secret 는 32바이트 이상이어야 합니다.");
+        }
+        this.codeDigestSecret = decoded;
     }
 
-    public boolean verifyEmailCode(String email, String code, RoleType roleType) {
-        if (email == null || code == null) {
-            throw new IllegalArgumentException("이메일 또는 인증코드가 null입니다.");
+    /**
+     * 스크립트를 미리 SCRIPT LOAD 해 두어 첫 호출부터 EVALSHA 로 실행되도록 한다.
+     * (캐시에서 빠진 경우에도 RedisTemplate 이 EVAL 로 재시도한다)
+     */
+    @PostConstruct
+    void loadScripts() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                RedisScriptingCommands scriptingCommands = connection.scriptingCommands();
+                for (RedisScript<?> script : RedisScripts.ALL) {
+                    scriptingCommands.scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Redis 스크립트 사전 로드 실패 - 첫 호출 시 로드됩니다.", e);
+        }
+    }
+
+    // ==================== 이메일 인증 코드 ====================
+    // 코드는 서버 비밀키로 만든 HMAC 으로만 저장하고 (Redis 를 읽을 수 있어도 키 없이는 역산 불가), 모든 변경은 인증 Hash 하나에 대한 스크립트 한 번으로 처리한다
+
+    /**
+     * 차단, 재발송 대기, 발송 한도를 확인하고 통과하면 새 코드로 교체 등록 (한 번의 왕복)
+     */
+    @SuppressWarnings("unchecked")
+    public VerificationSendResult saveVerificationCode(String email, String code, RoleType roleType) {
+        String key = buildVerificationKey(email, roleType);
+        List<Long> result = redisTemplate.execute(
+                RedisScripts.SEND_VERIFICATION,
+                List.of(key),
+                digestVerificationCode(key, code),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(verificationPolicyProperties.getCodeTtl().toMillis()),
+                String.valueOf(verificationPolicyProperties.getResendCooldown().toMillis()),
+                String.valueOf(verificationPolicyProperties.getDailySendLimit()),
+                String.valueOf(verificationPolicyProperties.getSendWindow().toMillis())
+        );
+
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("인증코드 발송 스크립트 결과가 올바르지 않습니다.");
         }
-        String storedCode = redisTemplate.opsForValue().get(buildEmailVerificationKey(email, roleType));
-        return storedCode != null && storedCode.equals(code);
+
+        VerificationSendStatus status = switch (result.get(0).intValue()) {
+            case 1 -> VerificationSendStatus.SENT;
+            case -1 -> VerificationSendStatus.COOLDOWN;
+            case -2 -> VerificationSendStatus.DAILY_LIMIT_EXCEEDED;
+            default -> VerificationSendStatus.BLOCKED;
+        };
+        return VerificationSendResult.of(status, result.get(1), result.get(2).intValue());
     }
 
-    public String getVerificationCode(String email, RoleType roleType) {
-        return redisTemplate.opsForValue().get(buildEmailVerificationKey(email, roleType));
+    /**
+     * 등록한 코드를 메일로 보내지 못했을 때 되돌린다
+     */
+    public void cancelVerificationCode(String email, String code, RoleType roleType) {
+        String key = buildVerificationKey(email, roleType);
+        redisTemplate.execute(RedisScripts.CANCEL_VERIFICATION, List.of(key), digestVerificationCode(key, code));
     }
 
-    public void deleteVerificationCode(String email, RoleType roleType) {
-        redisTemplate.delete(buildEmailVerificationKey(email, roleType));
+    /**
+     * 코드가 일치하면 즉시 삭제 (비교와 삭제를 한 번에 처리하여 같은 코드의 중복 사용 방지)
+     */
+    public boolean consumeVerificationCode(String email, String code, RoleType roleType) {
+        if (email == null || code == null) {
+            throw new IllegalArgumentException("이메일 또는 인증코드가 null입니다.");
+        }
+        String key = buildVerificationKey(email, roleType);
+        Long consumed = redisTemplate.execute(
+                RedisScripts.CONSUME_VERIFICATION,
+                List.of(key),
+                digestVerificationCode(key, code),
+                String.valueOf(System.currentTimeMillis())
+        );
+        return consumed != null && consumed == 1L;
     }
 
     // ==================== 인증 시도 실패 및 차단 관리 ====================
 
-    public int incrementVerificationAttemptFailCount(String email, RoleType roleType) {
-        String key = buildVerificationAttemptFailKey(email, roleType);
-        Long count = redisTemplate.opsForValue().increment(key);
-        if (count != null && count == 1L) {
-            redisTemplate.expire(key, VERIFY_FAIL_BLOCK_TTL);
+    /**
+     * 차단 확인, 코드 비교, 실패 횟수 증가(허용 횟수를 넘긴 실패는 그 시도부터 BLOCKED) 또는 초기화를 한 번의 왕복으로 처리
+     */
+    public VerificationAttemptResult attemptVerification(String email, String code, RoleType roleType) {
+        if (email == null || code == null) {
+            throw new IllegalArgumentException("이메일 또는 인증코드가 null입니다.");
+        }
+        String key = buildVerificationKey(email, roleType);
+        Long result = redisTemplate.execute(
+                RedisScripts.VERIFY_VERIFICATION,
+                List.of(key),
+                digestVerificationCode(key, code),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(verificationPolicyProperties.getAttemptLimit()),
+                String.valueOf(verificationPolicyProperties.getBlockDuration().toMillis())
+        );
+
+        if (result == null || result < 0) {
+            return VerificationAttemptResult.BLOCKED;
         }
-        return count != null ? count.intValue() : 0;
+        return result == 0L ? VerificationAttemptResult.MATCHED : VerificationAttemptResult.MISMATCHED;
     }
 
-    public void resetVerificationAttemptFailCount(String email, RoleType roleType) {
-        redisTemplate.delete(buildVerificationAttemptFailKey(email, roleType));
+    // ==================== 로그인 실패 카운트 ====================
+
+    public int incrementLoginFailCount(String email, RoleType roleType) {
+        Long count = redisTemplate.execute(
+                RedisScripts.INCREMENT_WITH_TTL,
+                List.of(buildLoginFailKey(email, roleType)),
+                String.valueOf(LOGIN_FAIL_TTL.toMillis()),
+                "0",
+                "0"
+        );
+        return count != null ? count.intValue() : 0;
     }
 
-    public boolean isVerificationAttemptBlocked(String email, RoleType roleType) {
-        String countStr = redisTemplate.opsForValue().get(buildVerificationAttemptFailKey(email, roleType));
-        if (countStr == null) return false;
-        try {
-            return Integer.parseInt(countStr) >= VERIFY_FAIL_LIMIT;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+    // ==================== 로그인 성공 처리 ====================
+
+    /**
+     * 로그인 성공 후의 Redis 변경(실패 카운트 초기화, 기기 세션 저장)을 한 번의 스크립트 실행으로 처리
+     */
+    public void completeLogin(String email, RoleType roleType, String uuid, RefreshSession refreshSession) {
+        executeSaveSession(List.of(buildSessionKey(uuid, roleType), buildLoginFailKey(email, roleType)), refreshSession);
     }
 
-    public void blockVerificationAttempts(String email, RoleType roleType, Duration duration) {
-        redisTemplate.expire(buildVerificationAttemptFailKey(email, roleType), duration);
+    // ==================== 기기별 리프레시 토큰 세션 ====================
+
+    /**
+     * 세션은 principal 당 Hash 하나에 sessionId → "digest|issuedAt|expiresAt" 로 저장한다.
+     * 만료된 세션 정리와 기기 수 제한은 저장 시점에 스크립트 안에서 함께 처리된다.
+     */
+    public void saveSession(String uuid, RoleType roleType, RefreshSession refreshSession) {
+        executeSaveSession(List.of(buildSessionKey(uuid, roleType)), refreshSession);
     }
 
-    // ==================== 로그인 실패 카운트 ====================
+    /**
+     * 세션의 토큰 digest 비교 후 교체를 한 번의 왕복으로 처리. 이미 교체된 토큰이 다시 오면 해당 세션을 폐기한다.
+     */
+    public RefreshTokenRotationResult rotateSession(String uuid,
+                                                    RoleType roleType,
+                                                    String presentedToken,
+                                                    RefreshSession newSession) {
+        Long result = redisTemplate.execute(
+                RedisScripts.ROTATE_SESSION,
+                List.of(buildSessionKey(uuid, roleType)),
+                newSession.getSessionId(),
+                DigestGenerator.sha256(presentedToken),
+                newSession.toHashValue(),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(newSession.getExpiresAtMillis())
+        );
 
-    public int incrementLoginFailCount(String email, RoleType roleType) {
-        String key = buildLoginFailKey(email, roleType);
-        Long count = redisTemplate.opsForValue().increment(key);
-        if (count != null && count == 1L) {
-            redisTemplate.expire(key, LOGIN_FAIL_TTL);
+        if (result == null || result == 0L) {
+            return RefreshTokenRotationResult.NOT_FOUND;
         }
-        return count != null ? count.intValue() : 0;
+        return result > 0 ? RefreshTokenRotationResult.ROTATED : RefreshTokenRotationResult.REUSED;
     }
 
-    public void resetLoginFailCount(String email, RoleType roleType) {
-        redisTemplate.delete(buildLoginFailKey(email, roleType));
+    /**
+     * 만료되지 않은 세션을 최근 발급 순으로 반환
+     */
+    public List<RefreshSession> findSessions(String uuid, RoleType roleType) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(buildSessionKey(uuid, roleType));
+        long now = System.currentTimeMillis();
+
+        return entries.entrySet().stream()
+                .map(entry -> RefreshSession.fromHashEntry((String) entry.getKey(), (String) entry.getValue()))
+                .filter(Objects::nonNull)
+                .filter(refreshSession -> !refreshSession.isExpired(now))
+                .sorted(Comparator.comparingLong(RefreshSession::getIssuedAtMillis).reversed())
+                .toList();
     }
 
-    // ==================== 리프레시 토큰 ====================
+    public boolean revokeSession(String uuid, RoleType roleType, String sessionId) {
+        Long deleted = redisTemplate.opsForHash().delete(buildSessionKey(uuid, roleType), sessionId);
+        return deleted != null && deleted > 0;
+    }
 
-    public void saveRefreshToken(String userUuid, String refreshToken, long ttlMillis) {
-        redisTemplate.opsForValue().set(buildRefreshTokenKey(userUuid), refreshToken, ttlMillis, TimeUnit.MILLISECONDS);
+    public void revokeAllSessions(String uuid, RoleType roleType) {
+        redisTemplate.delete(buildSessionKey(uuid, roleType));
     }
 
-    public void deleteRefreshToken(String userUuid) {
-        redisTemplate.delete(buildRefreshTokenKey(userUuid));
+    private void executeSaveSession(List<String> keys, RefreshSession refreshSession) {
+        Long evicted = redisTemplate.execute(
+                RedisScripts.SAVE_SESSION,
+                keys,
+                refreshSession.getSessionId(),
+                refreshSession.toHashValue(),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(refreshSession.getExpiresAtMillis()),
+                String.valueOf(sessionPolicyProperties.getMaxDevices())
+        );
+
+        if (evicted != null && evicted > 0) {
+            log.info("기기 수 한도 초과로 오래된 세션 {}건 폐기 - key: {}", evicted, keys.get(0));
+        }
     }
 
     // ==================== Key 생성 메서드 ====================
 
-    private String buildEmailVerificationKey(String email, RoleType roleType) {
-        return (roleType == RoleType.HOST ? EMAIL_VERIFICATION_PREFIX_HOST : EMAIL_VERIFICATION_PREFIX_USER) + email.trim();
+    private String buildVerificationKey(String email, RoleType roleType) {
+        return (roleType == RoleType.HOST ? VERIFICATION_PREFIX_HOST : VERIFICATION_PREFIX_USER) + email.trim();
     }
 
-    private String buildVerificationAttemptFailKey(String email, RoleType roleType) {
-        return (roleType == RoleType.HOST ? VERIFY_FAIL_PREFIX_HOST : VERIFY_FAIL_PREFIX_USER) + email.trim();
+    // 같은 코드라도 이메일마다 digest 가 다르도록 키를 함께 넣는다
+    private String digestVerificationCode(String key, String code) {
+        return DigestGenerator.hmacSha256(codeDigestSecret, key + ":" + code);
     }
 
     private String buildLoginFailKey(String email, RoleType roleType) {
         return (roleType == RoleType.HOST ? LOGIN_FAIL_PREFIX_HOST : LOGIN_FAIL_PREFIX_USER) + email.trim();
     }
 
-    private String buildRefreshTokenKey(String userUuid) {
-        return REFRESH_TOKEN_PREFIX + userUuid;
+    private String buildSessionKey(String uuid, RoleType roleType) {
+        return (roleType == RoleType.HOST ? SESSION_PREFIX_HOST : SESSION_PREFIX_USER) + uuid;
     }
 }
@@ -0,0 +1,73 @@
+package com.parkmate.authservice.common.redis;
+
+import com.parkmate.authservice.common.generator.DigestGenerator;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 기기별 리프레시 토큰 세션. Redis Hash 의 field(sessionId) / value("digest|issuedAt|expiresAt") 한 쌍에 대응한다.
+ * 원본 JWT 대신 SHA-256 digest 만 저장한다.
+ */
+@Getter
+public class RefreshSession {
+
+    private static final String VALUE_DELIMITER = "|";
+
+    private final String sessionId;
+    private final String tokenDigest;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    @Builder
+    private RefreshSession(String sessionId,
+                           String tokenDigest,
+                           long issuedAtMillis,
+                           long expiresAtMillis) {
+        this.sessionId = sessionId;
+        this.tokenDigest = tokenDigest;
+        this.issuedAtMillis = issuedAtMillis;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public static RefreshSession issue(String sessionId, String refreshToken, long ttlMillis) {
+        long now = System.currentTimeMillis();
+
+        return RefreshSession.builder()
+                .sessionId(sessionId)
+                .tokenDigest(DigestGenerator.sha256(refreshToken))
+                .issuedAtMillis(now)
+                .expiresAtMillis(now + ttlMillis)
+                .build();
+    }
+
+    /**
+     * 형식이 맞지 않는 값이면 null
+     */
+    public static RefreshSession fromHashEntry(String sessionId, String value) {
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split("\\|");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return RefreshSession.builder()
+                    .sessionId(sessionId)
+                    .tokenDigest(parts[0])
+                    .issuedAtMillis(Long.parseLong(parts[1]))
+                    .expiresAtMillis(Long.parseLong(parts[2]))
+                    .build();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public String toHashValue() {
+        return tokenDigest + VALUE_DELIMITER + issuedAtMillis + VALUE_DELIMITER + expiresAtMillis;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
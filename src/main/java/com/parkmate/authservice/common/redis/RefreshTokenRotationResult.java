@@ -0,0 +1,8 @@
+package com.parkmate.authservice.common.redis;
+
+public enum RefreshTokenRotationResult {
+
+    ROTATED,
+    NOT_FOUND,
+    REUSED
+}
@@ -0,0 +1,8 @@
+package com.parkmate.authservice.common.redis;
+
+public enum VerificationAttemptResult {
+
+    MATCHED,
+    MISMATCHED,
+    BLOCKED
+}
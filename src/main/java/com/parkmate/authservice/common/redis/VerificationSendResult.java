@@ -0,0 +1,35 @@
+package com.parkmate.authservice.common.redis;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인증코드 발송 스크립트 결과. 거절된 경우에도 다시 보낼 수 있을 때까지 남은 시간과 남은 발송 횟수를 함께 돌려준다.
+ */
+@Getter
+public class VerificationSendResult {
+
+    private final VerificationSendStatus status;
+    // SENT 이면 다음 재발송까지의 대기 시간, 그 외에는 다시 요청할 수 있을 때까지 남은 시간
+    private final long retryAfterMillis;
+    private final int remainingSends;
+
+    @Builder
+    private VerificationSendResult(VerificationSendStatus status, long retryAfterMillis, int remainingSends) {
+        this.status = status;
+        this.retryAfterMillis = retryAfterMillis;
+        this.remainingSends = remainingSends;
+    }
+
+    public static VerificationSendResult of(VerificationSendStatus status, long retryAfterMillis, int remainingSends) {
+        return VerificationSendResult.builder()
+                .status(status)
+                .retryAfterMillis(Math.max(retryAfterMillis, 0))
+                .remainingSends(Math.max(remainingSends, 0))
+                .build();
+    }
+
+    public boolean isSent() {
+        return status == VerificationSendStatus.SENT;
+    }
+}
@@ -0,0 +1,9 @@
+package com.parkmate.authservice.common.redis;
+
+public enum VerificationSendStatus {
+
+    SENT,
+    COOLDOWN,
+    DAILY_LIMIT_EXCEEDED,
+    BLOCKED
+}
@@ -36,7 +36,7 @@ public enum ResponseStatus {
     INVALID_NAME_FORMAT(HttpStatus.BAD_REQUEST, false, 415, "이름은 2~50자 이내여야 합니다."),
     INVALID_PASSWORD_FORMAT(HttpStatus.BAD_REQUEST, false, 416, "비밀번호는 영문, 숫자, 특수문자를 포함한 8~20자여야 합니다."),
     INVALID_PHONE_NUMBER_FORMAT(HttpStatus.BAD_REQUEST, false, 417, "전화번호는 010으로 시작하는 11자리 숫자여야 합니다."),
-    INVALID_VERIFICATION_CODE(HttpStatus.BAD_REQUEST, false, 418, "인증 코드는 6자리여야 합니다."),
+    INVALID_VERIFICATION_CODE(HttpStatus.BAD_REQUEST, false, 418, "인증 코드가 올바르지 않습니다."),
 
     // ❌ 공통 유효성 실패 - Host 전용 필드
     INVALID_ACCOUNT_NUMBER_FORMAT(HttpStatus.BAD_REQUEST, false, 419, "계좌번호는 숫자와 '-'만 포함할 수 있으며 9~30자여야 합니다."),
@@ -47,6 +47,9 @@ public enum ResponseStatus {
     VERIFICATION_CODE_ALREADY_SENT(HttpStatus.BAD_REQUEST, false, 423, "이미 인증코드가 발송되었습니다. 잠시 후 다시 시도해주세요."),
     VERIFICATION_ATTEMPT_BLOCKED(HttpStatus.UNAUTHORIZED, false, 424, "인증코드 입력 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
     INVALID_VERIFICATION_CODE_MISMATCH(HttpStatus.BAD_REQUEST, false, 425, "인증번호가 일치하지 않습니다."),
+    AUTH_REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, false, 426, "이미 사용된 리프레시 토큰입니다. 보안을 위해 다시 로그인해주세요."),
+    AUTH_SESSION_NOT_FOUND(HttpStatus.OK, false, 427, "존재하지 않거나 이미 만료된 세션입니다."),
+    VERIFICATION_DAILY_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, false, 428, "인증코드 발송 가능 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
 
     // ❗ 5xx: 서버 오류
@@ -55,7 +58,9 @@ public enum ResponseStatus {
     AUTH_USER_REGISTER_FAILED(HttpStatus.SERVICE_UNAVAILABLE, false, 502, "사용자 서비스에 회원 등록 요청이 실패했습니다."),
     AUTH_BIZNO_API_FAILED(HttpStatus.SERVICE_UNAVAILABLE, false, 503, "사업자등록번호 검증 서비스에 실패했습니다."),
     AUTH_LOCK_MAIL_FAILED(HttpStatus.SERVICE_UNAVAILABLE, false, 504, "계정 잠금 이메일 발송에 실패했습니다."),
-    AUTH_HOST_SERVICE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, false, 505, "호스트 서비스 연동에 실패했습니다.");
+    AUTH_HOST_SERVICE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, false, 505, "호스트 서비스 연동에 실패했습니다."),
+    AUTH_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, false, 506, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    AUTH_MAIL_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, false, 507, "메일 발송 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final boolean isSuccess;
@@ -0,0 +1,74 @@
+package com.parkmate.authservice.common.security.admin;
+
+import com.parkmate.authservice.common.config.AdminProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 관리자 API(/api/v1/admin/**) 전용 인증. X-Admin-Api-Key 가 설정값과 일치하면 ROLE_ADMIN 으로 인증한다.
+ */
+@Component
+public class AdminApiKeyFilter extends OncePerRequestFilter {
+
+    private static final String ADMIN_PATH_PREFIX = "/api/v1/admin/";
+    private static final String API_KEY_HEADER = "X-Admin-Api-Key";
+    private static final String ADMIN_PRINCIPAL = "admin";
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private final AdminProperties adminProperties;
+
+    public AdminApiKeyFilter(AdminProperties adminProperties) {
+        this.adminProperties = adminProperties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(ADMIN_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        if (matchesApiKey(request.getHeader(API_KEY_HEADER))) {
+
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(
+                            ADMIN_PRINCIPAL,
+                            null,
+                            List.of(new SimpleGrantedAuthority(ROLE_ADMIN))
+                    );
+
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matchesApiKey(String presentedKey) {
+        String apiKey = adminProperties.getApiKey();
+        if (!StringUtils.hasText(apiKey) || presentedKey == null) {
+            return false;
+        }
+        // 비교 시간으로 키가 유추되지 않도록 고정 시간 비교
+        return MessageDigest.isEqual(
+                apiKey.getBytes(StandardCharsets.UTF_8),
+                presentedKey.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.parkmate.authservice.common.security.jwt;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final Duration JWKS_MAX_AGE = Duration.ofMinutes(10);
+
+    private final JwtProvider jwtProvider;
+
+    @Operation(
+            summary = "JWKS 조회",
+            description = "게이트웨이/다운스트림 서비스가 토큰 서명을 로컬에서 검증할 수 있도록 공개키 목록(JWK Set)을 반환합니다.",
+            tags = {"AUTH-JWKS"}
+    )
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> getJwks() {
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JWKS_MAX_AGE).cachePublic())
+                .body(Map.of("keys", jwtProvider.getPublicJwks()));
+    }
+}
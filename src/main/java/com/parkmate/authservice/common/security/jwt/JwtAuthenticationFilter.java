@@ -1,28 +1,30 @@
 package com.parkmate.authservice.common.security.jwt;
 
-import com.parkmate.authservice.authuser.domain.AuthUser;
-import com.parkmate.authservice.authuser.infrastructure.AuthRepository;
+import com.parkmate.authservice.common.security.revocation.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private final JwtProvider jwtProvider;
-    private final AuthRepository authRepository;
+    private final TokenRevocationService tokenRevocationService;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider, AuthRepository authRepository) {
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, TokenRevocationService tokenRevocationService) {
         this.jwtProvider = jwtProvider;
-        this.authRepository = authRepository;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -33,13 +35,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return path.startsWith("/api/v1/user/login")
                 || path.startsWith("/api/v1/user/logout")
                 || path.startsWith("/api/v1/user/register")
+                || path.startsWith("/api/v1/user/refresh")
                 || path.startsWith("/api/v1/host/login")
                 || path.startsWith("/api/v1/host/logout")
                 || path.startsWith("/api/v1/host/register")
+                || path.startsWith("/api/v1/host/refresh")
                 || path.startsWith("/api/v1/sendVerification")
                 || path.startsWith("/api/v1/verifyCode")
                 || path.startsWith("/api/v1/socialLogin")
-                || path.startsWith("/api/v1/socialRegister");
+                || path.startsWith("/api/v1/socialRegister")
+                || path.startsWith("/.well-known/jwks.json");
     }
 
     @Override
@@ -47,33 +52,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String header = request.getHeader("Authorization");
-
-        if (header != null && header.startsWith("Bearer ")) {
-            String token = header.substring(7);
-
-            if (jwtProvider.validateToken(token)) {
-
-                String email = jwtProvider.extractSubject(token);
-
-                AuthUser user = authRepository.findByEmail(email)
-                        .orElse(null);
-
-                if (user != null) {
-
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    user.getUserUuid(),
-                                    null,
-                                    Collections.emptyList()
-                            );
-
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
-            }
+        String token = jwtProvider.resolveBearerToken(request.getHeader("Authorization"));
+
+        if (token != null) {
+
+            // 서명 검증과 클레임 파싱을 한 번만 수행하고, 클레임만으로 인증 주체를 구성 (DB 조회 없음)
+            // 리프레시 토큰은 API 인증에 사용할 수 없다
+            jwtProvider.parseAndValidate(token)
+                    .filter(JwtClaims::hasPrincipal)
+                    .filter(JwtClaims::isAccessToken)
+                    // 폐기 여부는 로컬 Bloom filter 로 먼저 거르고, 걸린 경우에만 Redis 확인
+                    .filter(claims -> !tokenRevocationService.isRevoked(claims))
+                    .ifPresent(claims -> {
+
+                        UsernamePasswordAuthenticationToken authentication =
+                                new UsernamePasswordAuthenticationToken(
+                                        claims.getSubject(),
+                                        null,
+                                        List.of(new SimpleGrantedAuthority(ROLE_PREFIX + claims.getRole().name()))
+                                );
+
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    });
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
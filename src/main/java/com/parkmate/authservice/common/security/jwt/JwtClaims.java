@@ -0,0 +1,53 @@
+package com.parkmate.authservice.common.security.jwt;
+
+import com.parkmate.authservice.common.roletype.RoleType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검증이 끝난 토큰의 클레임 중 인증에 필요한 값만 담는 불변 객체
+ */
+@Getter
+public class JwtClaims {
+
+    private final String subject;
+    private final RoleType role;
+    private final TokenType tokenType;
+    private final String tokenId;
+    private final String sessionId;
+    private final long expiresAtMillis;
+
+    @Builder
+    private JwtClaims(String subject,
+                      RoleType role,
+                      TokenType tokenType,
+                      String tokenId,
+                      String sessionId,
+                      long expiresAtMillis) {
+        this.subject = subject;
+        this.role = role;
+        this.tokenType = tokenType;
+        this.tokenId = tokenId;
+        this.sessionId = sessionId;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public long getRemainingMillis() {
+        return Math.max(0, expiresAtMillis - System.currentTimeMillis());
+    }
+
+    public boolean hasPrincipal() {
+        return subject != null && !subject.isBlank() && role != null;
+    }
+
+    /**
+     * token_type 이 ACCESS 인 토큰만 허용. 클레임이 없거나 알 수 없는 값이면 (클레임 도입 전 발급된 리프레시 토큰 포함) 거부한다
+     */
+    public boolean isAccessToken() {
+        return tokenType == TokenType.ACCESS;
+    }
+
+    public boolean isRefreshToken() {
+        return tokenType == TokenType.REFRESH;
+    }
+}
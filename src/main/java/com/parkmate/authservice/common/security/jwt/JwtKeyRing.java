@@ -0,0 +1,52 @@
+package com.parkmate.authservice.common.security.jwt;
+
+import lombok.Getter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명에 쓰는 활성 키 1개와 kid 로 선택되는 검증 전용 키 N개의 묶음. 교체 시 통째로 바꿔 끼우는 불변 객체이다.
+ */
+public class JwtKeyRing {
+
+    @Getter
+    private final JwtSigningKey activeKey;
+
+    private final Map<String, JwtSigningKey> keysById;
+
+    public JwtKeyRing(JwtSigningKey activeKey, List<JwtSigningKey> verificationKeys) {
+
+        Map<String, JwtSigningKey> keys = new LinkedHashMap<>();
+        keys.put(activeKey.getKeyId(), activeKey);
+        for (JwtSigningKey verificationKey : verificationKeys) {
+            if (keys.putIfAbsent(verificationKey.getKeyId(), verificationKey) != null) {
+                throw new IllegalStateException("중복된 kid 입니다: " + verificationKey.getKeyId());
+            }
+        }
+
+        this.activeKey = activeKey;
+        this.keysById = Map.copyOf(keys);
+    }
+
+    /**
+     * kid 헤더가 없는 토큰(kid 도입 이전 발급분)은 활성 키로 검증한다.
+     */
+    public JwtSigningKey findVerificationKey(String keyId) {
+        if (keyId == null) {
+            return activeKey;
+        }
+        return keysById.get(keyId);
+    }
+
+    public List<Map<String, Object>> getPublicJwks() {
+        return keysById.values().stream()
+                .filter(JwtSigningKey::isAsymmetric)
+                .map(JwtSigningKey::toJwk)
+                .toList();
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+}
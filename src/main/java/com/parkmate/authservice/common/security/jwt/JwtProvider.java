@@ -1,23 +1,53 @@
 package com.parkmate.authservice.common.security.jwt;
 
-import io.jsonwebtoken.ExpiredJwtException;
+import com.parkmate.authservice.common.config.JwtSigningProperties;
+import com.parkmate.authservice.common.generator.UUIDGenerator;
+import com.parkmate.authservice.common.roletype.RoleType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtProvider {
 
-    private Key signingKey;
+    private static final String ROLE_CLAIM = "role";
+    private static final String TOKEN_TYPE_CLAIM = "token_type";
+    private static final String SESSION_ID_CLAIM = "sid";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String JWT_PROPERTY_PREFIX = "jwt.";
+    private static final String SIGNING_PROPERTY_PREFIX = "jwt.signing";
 
-    @Value("${jwt.secret-key}")
+    private final JwtTokenCache jwtTokenCache;
+    private final JwtSigningProperties jwtSigningProperties;
+    private final Environment environment;
+
+    // 설정 변경 시 통째로 교체되므로 volatile
+    private volatile JwtKeyRing keyRing;
+
+    // 불변·thread-safe 하므로 한 번만 만들어 재사용 (검증 키는 kid 로 keyRing 에서 찾는다)
+    private JwtParser jwtParser;
+
+    @Value("${jwt.secret-key:}")
     private String secretKey;
 
     @Value("${jwt.access-expiration}")
@@ -29,68 +59,216 @@ public class JwtProvider {
     @PostConstruct
     protected void init() {
 
-        byte[] keyBytes = Base64.getDecoder().decode(secretKey);
-        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.keyRing = createKeyRing(jwtSigningProperties, secretKey);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        JwtSigningKey key = keyRing.findVerificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new JwtException("알 수 없는 서명 키입니다. kid=" + header.getKeyId());
+                        }
+                        return key.getVerificationKey();
+                    }
+                })
+                .build();
     }
 
-    public String generateAccessToken() {
-        return createToken("", accessTokenValidityInMs);
+    /**
+     * /actuator/refresh 또는 Spring Cloud Bus 로 jwt.* 설정이 바뀌면 재시작 없이 키 링을 다시 읽는다.
+     * 새 설정이 잘못된 경우 기존 키 링을 유지한다.
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+
+        boolean jwtPropertyChanged = event.getKeys().stream()
+                .anyMatch(key -> key.startsWith(JWT_PROPERTY_PREFIX));
+        if (!jwtPropertyChanged) {
+            return;
+        }
+
+        JwtSigningProperties reloadedProperties = Binder.get(environment)
+                .bind(SIGNING_PROPERTY_PREFIX, JwtSigningProperties.class)
+                .orElseGet(JwtSigningProperties::new);
+        String reloadedSecretKey = environment.getProperty("jwt.secret-key", "");
+
+        try {
+            JwtKeyRing reloadedKeyRing = createKeyRing(reloadedProperties, reloadedSecretKey);
+            this.keyRing = reloadedKeyRing;
+            // 제거된 키로 검증된 캐시 엔트리가 남지 않도록 비운다
+            jwtTokenCache.clear();
+            log.info("JWT 키 링 갱신 완료 - active kid: {}, 전체 키 수: {}",
+                    reloadedKeyRing.getActiveKey().getKeyId(), reloadedKeyRing.size());
+        } catch (IllegalStateException e) {
+            log.error("JWT 키 링 갱신 실패 - 기존 키 링을 유지합니다.", e);
+        }
     }
 
-    public String generateRefreshToken() {
-        return createToken("", refreshTokenValidityInMs);
+    private JwtKeyRing createKeyRing(JwtSigningProperties properties, String hmacSecretKey) {
+
+        String algorithm = properties.getAlgorithm();
+        String keyId = properties.getKeyId();
+
+        JwtSigningKey activeKey;
+        if ("HS256".equalsIgnoreCase(algorithm)) {
+            activeKey = JwtSigningKey.hmac(keyId, hmacSecretKey);
+        } else if ("ES256".equalsIgnoreCase(algorithm)) {
+            activeKey = JwtSigningKey.ecdsa(keyId, properties.getPrivateKey(), properties.getPublicKey());
+            if (!activeKey.canSign()) {
+                throw new IllegalStateException("ES256 서명에는 개인키가 필요합니다. kid=" + keyId);
+            }
+        } else {
+            throw new IllegalStateException("지원하지 않는 서명 알고리즘입니다: " + algorithm);
+        }
+
+        List<JwtSigningKey> verificationKeys = properties.getVerificationKeys().stream()
+                .map(this::createVerificationKey)
+                .toList();
+
+        return new JwtKeyRing(activeKey, verificationKeys);
     }
 
+    private JwtSigningKey createVerificationKey(JwtSigningProperties.VerificationKey properties) {
 
-    private String createToken(String subject, long validityInMs) {
+        if ("HS256".equalsIgnoreCase(properties.getAlgorithm())) {
+            return JwtSigningKey.hmac(properties.getKeyId(), properties.getSecretKey());
+        }
+        if ("ES256".equalsIgnoreCase(properties.getAlgorithm())) {
+            return JwtSigningKey.ecdsa(properties.getKeyId(), null, properties.getPublicKey());
+        }
+        throw new IllegalStateException("지원하지 않는 서명 알고리즘입니다: " + properties.getAlgorithm());
+    }
+
+    public String generateAccessToken(String subject, RoleType roleType) {
+        return createToken(subject, roleType, TokenType.ACCESS, null, accessTokenValidityInMs);
+    }
+
+    /**
+     * 리프레시 토큰에는 기기 세션 식별자(sid)를 담아 Redis 세션 Hash 의 field 와 연결한다
+     */
+    public String generateRefreshToken(String subject, RoleType roleType, String sessionId) {
+        return createToken(subject, roleType, TokenType.REFRESH, sessionId, refreshTokenValidityInMs);
+    }
+
+    /**
+     * subject(user/host UUID), role, token_type, jti 를 담아 토큰만으로 인증 주체와 용도를 복원할 수 있도록 발급
+     */
+    private String createToken(String subject, RoleType roleType, TokenType tokenType, String sessionId, long validityInMs) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + validityInMs);
+        JwtSigningKey signingKey = keyRing.getActiveKey();
 
-        return Jwts.builder()
-                .setSubject("")
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKeyId())
+                .setSubject(subject)
+                .claim(ROLE_CLAIM, roleType.name())
+                .claim(TOKEN_TYPE_CLAIM, tokenType.name())
+                .setId(UUIDGenerator.generateUUID())
                 .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .setExpiration(expiry);
+
+        if (sessionId != null) {
+            builder.claim(SESSION_ID_CLAIM, sessionId);
+        }
+
+        return builder
+                .signWith(signingKey.getSigningKey(), signingKey.getAlgorithm())
                 .compact();
     }
 
+    /**
+     * 서명 검증과 클레임 파싱을 한 번에 수행한다. 유효하지 않거나 만료된 토큰이면 empty.
+     * 이미 검증된 토큰은 캐시에서 바로 반환한다.
+     */
+    public Optional<JwtClaims> parseAndValidate(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        JwtClaims cachedClaims = jwtTokenCache.get(token);
+        if (cachedClaims != null) {
+            return Optional.of(cachedClaims);
+        }
+
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            JwtClaims jwtClaims = toJwtClaims(claims);
+            jwtTokenCache.put(token, jwtClaims);
+            return Optional.of(jwtClaims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 외부에서 토큰을 로컬 검증할 수 있도록 공개 가능한(비대칭) 키만 JWK 로 반환
+     */
+    public List<Map<String, Object>> getPublicJwks() {
+        return keyRing.getPublicJwks();
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰만 꺼낸다. 형식이 다르면 null
+     */
+    public String resolveBearerToken(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return authorizationHeader.substring(BEARER_PREFIX.length());
+    }
+
+    public void evictFromCache(String token) {
+        jwtTokenCache.evict(token);
+    }
+
     public String extractSubject(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject(); // email 반환
+        return parseAndValidate(token)
+                .map(JwtClaims::getSubject)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다.")); // user/host UUID 반환
     }
 
     public boolean validateToken(String token) {
+        return parseAndValidate(token).isPresent();
+    }
+
+    public long getRemainingExpiration(String token) {
+        return parseAndValidate(token)
+                .map(JwtClaims::getRemainingMillis)
+                .orElse(0L);
+    }
+
+    private JwtClaims toJwtClaims(Claims claims) {
+        Date expiration = claims.getExpiration();
+
+        return JwtClaims.builder()
+                .subject(claims.getSubject())
+                .role(parseRole(claims.get(ROLE_CLAIM, String.class)))
+                .tokenType(parseTokenType(claims.get(TOKEN_TYPE_CLAIM, String.class)))
+                .tokenId(claims.getId())
+                .sessionId(claims.get(SESSION_ID_CLAIM, String.class))
+                .expiresAtMillis(expiration != null ? expiration.getTime() : 0L)
+                .build();
+    }
+
+    private RoleType parseRole(String role) {
+        if (role == null) {
+            return null;
+        }
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            return false;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return RoleType.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 
-    public long getRemainingExpiration(String token) {
+    private TokenType parseTokenType(String tokenType) {
+        if (tokenType == null) {
+            return null;
+        }
         try {
-            Date expirationDate = Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
-
-            long now = System.currentTimeMillis();
-            return expirationDate.getTime() - now;
-
-        } catch (ExpiredJwtException e) {
-            return 0;
+            return TokenType.valueOf(tokenType);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.parkmate.authservice.common.security.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * kid 로 식별되는 서명/검증 키 쌍. HS256 은 같은 비밀키로 서명·검증하고, ES256 은 개인키로 서명하고 공개키로 검증한다.
+ */
+@Getter
+public class JwtSigningKey {
+
+    private static final int P256_COORDINATE_SIZE = 32;
+
+    private final String keyId;
+    private final SignatureAlgorithm algorithm;
+    private final Key signingKey;
+    private final Key verificationKey;
+
+    private JwtSigningKey(String keyId, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+        this.keyId = keyId;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+    }
+
+    public static JwtSigningKey hmac(String keyId, String base64SecretKey) {
+
+        if (base64SecretKey == null || base64SecretKey.isBlank()) {
+            throw new IllegalStateException("HS256 서명에는 비밀키가 필요합니다. kid=" + keyId);
+        }
+
+        Key secretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(base64SecretKey));
+        return new JwtSigningKey(keyId, SignatureAlgorithm.HS256, secretKey, secretKey);
+    }
+
+    public static JwtSigningKey ecdsa(String keyId, String base64PrivateKey, String base64PublicKey) {
+
+        if (base64PublicKey == null || base64PublicKey.isBlank()) {
+            throw new IllegalStateException("ES256 검증에는 공개키가 필요합니다. kid=" + keyId);
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            ECPublicKey publicKey = (ECPublicKey) keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(base64PublicKey)));
+
+            if (publicKey.getParams().getCurve().getField().getFieldSize() != 256) {
+                throw new IllegalStateException("ES256 은 P-256 곡선 키만 지원합니다. kid=" + keyId);
+            }
+
+            // 개인키가 없으면 검증 전용 키
+            Key privateKey = base64PrivateKey == null || base64PrivateKey.isBlank()
+                    ? null
+                    : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64PrivateKey)));
+
+            return new JwtSigningKey(keyId, SignatureAlgorithm.ES256, privateKey, publicKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("ES256 키를 읽을 수 없습니다. kid=" + keyId, e);
+        }
+    }
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    public boolean isAsymmetric() {
+        return algorithm != SignatureAlgorithm.HS256;
+    }
+
+    /**
+     * RFC 7517 JWK 형태의 공개키. 비대칭 키만 공개한다.
+     */
+    public Map<String, Object> toJwk() {
+
+        if (!isAsymmetric()) {
+            throw new IllegalStateException("대칭키는 JWKS 로 공개할 수 없습니다. kid=" + keyId);
+        }
+
+        ECPublicKey publicKey = (ECPublicKey) verificationKey;
+
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    private static String encodeCoordinate(BigInteger coordinate) {
+
+        // BigInteger 는 부호 바이트가 붙거나 앞자리 0 이 빠질 수 있으므로 32바이트로 맞춘다
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_SIZE];
+        int srcPos = Math.max(0, bytes.length - P256_COORDINATE_SIZE);
+        int length = bytes.length - srcPos;
+        System.arraycopy(bytes, srcPos, fixed, P256_COORDINATE_SIZE - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
@@ -0,0 +1,84 @@
+package com.parkmate.authservice.common.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.parkmate.authservice.common.config.JwtCacheProperties;
+import com.parkmate.authservice.common.generator.DigestGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 토큰의 클레임을 토큰 해시 기준으로 보관하는 LRU 캐시.
+ * 각 엔트리는 토큰의 exp 시점에 만료되며, jwt.cache.enabled=false 이면 아무것도 저장하지 않는다.
+ */
+@Component
+public class JwtTokenCache {
+
+    private static final String CACHE_NAME = "jwt.token";
+
+    private final Cache<String, JwtClaims> cache;
+
+    public JwtTokenCache(JwtCacheProperties jwtCacheProperties, MeterRegistry meterRegistry) {
+
+        if (!jwtCacheProperties.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+
+        Cache<String, JwtClaims> claimsCache = Caffeine.newBuilder()
+                .maximumSize(jwtCacheProperties.getMaximumSize())
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(claims.getRemainingMillis());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return TimeUnit.MILLISECONDS.toNanos(claims.getRemainingMillis());
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등 히트/미스 지표 노출
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, CACHE_NAME);
+    }
+
+    public JwtClaims get(String token) {
+        if (cache == null) {
+            return null;
+        }
+        JwtClaims claims = cache.getIfPresent(DigestGenerator.sha256(token));
+        return claims != null && claims.getRemainingMillis() > 0 ? claims : null;
+    }
+
+    public void put(String token, JwtClaims claims) {
+        if (cache == null || claims.getRemainingMillis() <= 0) {
+            return;
+        }
+        cache.put(DigestGenerator.sha256(token), claims);
+    }
+
+    public void evict(String token) {
+        if (cache == null) {
+            return;
+        }
+        cache.invalidate(DigestGenerator.sha256(token));
+    }
+
+    public void clear() {
+        if (cache == null) {
+            return;
+        }
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,7 @@
+package com.parkmate.authservice.common.security.jwt;
+
+public enum TokenType {
+
+    ACCESS,
+    REFRESH
+}
@@ -0,0 +1,181 @@
+package com.parkmate.authservice.common.security.password;
+
+import com.parkmate.authservice.common.config.PasswordHashingProperties;
+import com.parkmate.authservice.common.exception.BaseException;
+import com.parkmate.authservice.common.response.ResponseStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 해싱/검증을 코어 수 크기의 전용 스레드 풀에서 실행하는 PasswordEncoder.
+ * 로그인 폭주 시에도 BCrypt 가 Tomcat 요청 스레드와 CPU 를 모두 점유하지 않도록 동시 실행 수와 대기열을 제한한다.
+ * 요청 밖 대량 해싱(encodeAsync)은 작은 별도 풀에서 실행해, 로그인 작업이 그 뒤에 줄 서지 않게 한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String METRIC_PREFIX = "auth.hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor backgroundExecutor;
+    private final Duration waitTimeout;
+
+    private final Timer queueWaitTimer;
+    private final Timer executionTimer;
+    private final Timer backgroundQueueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  PasswordHashingProperties passwordHashingProperties,
+                                  MeterRegistry meterRegistry) {
+
+        int poolSize = passwordHashingProperties.getPoolSize() > 0
+                ? passwordHashingProperties.getPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+
+        int backgroundPoolSize = passwordHashingProperties.getBackgroundPoolSize() > 0
+                ? passwordHashingProperties.getBackgroundPoolSize()
+                : Math.max(Runtime.getRuntime().availableProcessors() / 4, 1);
+
+        this.delegate = delegate;
+        this.waitTimeout = passwordHashingProperties.getWaitTimeout();
+        this.executor = newExecutor(poolSize, passwordHashingProperties.getQueueCapacity(), "password-hashing-");
+        this.backgroundExecutor = newExecutor(
+                backgroundPoolSize,
+                passwordHashingProperties.getBackgroundQueueCapacity(),
+                "password-hashing-background-"
+        );
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                .description("해싱 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".background.queue.size", backgroundExecutor, e -> e.getQueue().size())
+                .description("백그라운드 해싱 대기열 길이")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(METRIC_PREFIX + ".queue.wait")
+                .description("해싱 작업이 대기열에서 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder(METRIC_PREFIX + ".execution")
+                .description("해싱 작업 실행 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.backgroundQueueWaitTimer = Timer.builder(METRIC_PREFIX + ".background.queue.wait")
+                .description("백그라운드 해싱 작업이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열 초과, 대기 시간 초과 또는 대기 중 인터럽트로 거절된 해싱 요청 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해싱 풀 초기화 - 스레드: {}, 대기열: {}, 백그라운드 스레드: {}, 백그라운드 대기열: {}",
+                poolSize, passwordHashingProperties.getQueueCapacity(),
+                backgroundPoolSize, passwordHashingProperties.getBackgroundQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * 결과를 기다리지 않는 해싱. 대량 가져오기처럼 여러 건을 맡길 때 사용하며 로그인과 분리된 백그라운드 풀에서 실행된다.
+     * 대기열이 가득 차 있으면 즉시 AUTH_HASHING_BUSY 를 던지므로, 호출 측이 동시 제출 수를 제한해야 한다.
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+
+        long enqueuedAt = System.nanoTime();
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                backgroundQueueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return executionTimer.record(() -> delegate.encode(rawPassword));
+            }, backgroundExecutor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BaseException(ResponseStatus.AUTH_HASHING_BUSY);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 접두사만 확인하는 가벼운 연산이므로 풀을 거치지 않는다
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Supplier<T> task) {
+
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return executionTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BaseException(ResponseStatus.AUTH_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new BaseException(ResponseStatus.AUTH_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            rejectedCounter.increment();
+            throw new BaseException(ResponseStatus.AUTH_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(int poolSize, int queueCapacity, String threadNamePrefix) {
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(threadNamePrefix),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        backgroundExecutor.shutdown();
+    }
+}
@@ -0,0 +1,45 @@
+package com.parkmate.authservice.common.security.password;
+
+import com.parkmate.authservice.common.exception.BaseException;
+import com.parkmate.authservice.common.principal.PrincipalCache;
+import com.parkmate.authservice.common.roletype.RoleType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import java.util.function.Consumer;
+
+/**
+ * 로그인 성공 시점의 비밀번호 재해싱. 사용자·호스트가 공유한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashUpgrader {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+
+    /**
+     * 기존 해시가 접두사 없는 해시이거나 설정된 cost 보다 낮으면 새 해시로 교체
+     *
+     * @param passwordUpdater 새 해시를 저장하는 저장소 호출 (역할별 저장소가 다르므로 호출자가 넘긴다)
+     */
+    public void upgradeIfNeeded(RoleType roleType,
+                                String email,
+                                String uuid,
+                                String encodedPassword,
+                                String rawPassword,
+                                Consumer<String> passwordUpdater) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            passwordUpdater.accept(passwordEncoder.encode(rawPassword));
+            principalCache.invalidate(roleType, email, uuid);
+        } catch (BaseException e) {
+            // 해싱 풀이 바쁘면 이번 로그인에서는 건너뛰고 다음 로그인 때 다시 시도
+            log.warn("비밀번호 재해싱 건너뜀 - role: {}, uuid: {}, 사유: {}", roleType, uuid, e.getStatus());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.parkmate.authservice.common.security.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 삭제를 지원하지 않는 lock-free Bloom filter. false positive 는 있을 수 있지만 false negative 는 없다.
+ * 비트 배열을 AtomicLongArray 로 관리하여 여러 스레드가 동시에 put / mightContain 해도 안전하다.
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctionCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions 는 0보다 커야 합니다: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability 는 0과 1 사이여야 합니다: " + falsePositiveProbability);
+        }
+
+        // m = -n ln(p) / (ln 2)^2, k = (m / n) ln 2
+        long optimalBitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (optimalBitSize + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * Long.SIZE;
+        this.hashFunctionCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ FNV_PRIME) | 1L;
+
+        for (int i = 0; i < hashFunctionCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            long mask = 1L << index;
+            bits.getAndAccumulate((int) (index >>> 6), mask, (current, bit) -> current | bit);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ FNV_PRIME) | 1L;
+
+        for (int i = 0; i < hashFunctionCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            long mask = 1L << index;
+            if ((bits.get((int) (index >>> 6)) & mask) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 64bit 후 비트 확산
+    private static long hash(String value) {
+        return mix(fnv1a64(value));
+    }
+
+    // 해시 값이 바뀌면 노드마다 필터가 달라지므로 테스트에서 고정 값으로 확인한다 (package-private)
+    static long fnv1a64(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 fmix64
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb3f97dd1e40bL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,156 @@
+package com.parkmate.authservice.common.security.revocation;
+
+import com.parkmate.authservice.common.config.TokenRevocationProperties;
+import com.parkmate.authservice.common.security.jwt.JwtClaims;
+import com.parkmate.authservice.common.security.jwt.JwtProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃 등으로 폐기된 액세스 토큰(jti) 관리.
+ * Redis 의 revoked:jti:{jti} 가 원본이고, 각 노드는 Bloom filter 를 앞에 두어 폐기되지 않은 토큰(대부분)은 네트워크 없이 통과시킨다.
+ * 필터가 "있을 수 있음" 이라고 답한 경우에만 Redis 로 확인한다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+    public static final String REVOCATION_CHANNEL = "auth:token:revoked";
+
+    private static final String REVOKED_JTI_PREFIX = "revoked:jti:";
+    private static final String REVOKED_VALUE = "1";
+    private static final long SCAN_BATCH_SIZE = 1_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtProvider jwtProvider;
+    private final TokenRevocationProperties tokenRevocationProperties;
+
+    private volatile BloomFilter revokedTokenFilter;
+
+    // 재구성 중 pub/sub 으로 받은 jti 를 새 필터에도 넣기 위해 잠시 노출
+    private volatile BloomFilter rebuildingFilter;
+
+    // Redis 기준으로 한 번이라도 필터를 만들기 전에는 필터를 믿지 않고 Redis 로 확인한다
+    private volatile boolean synced;
+
+    public TokenRevocationService(RedisTemplate<String, String> redisTemplate,
+                                  JwtProvider jwtProvider,
+                                  TokenRevocationProperties tokenRevocationProperties) {
+        this.redisTemplate = redisTemplate;
+        this.jwtProvider = jwtProvider;
+        this.tokenRevocationProperties = tokenRevocationProperties;
+        this.revokedTokenFilter = createFilter();
+    }
+
+    /**
+     * 주체가 일치하는 유효한 액세스 토큰만 남은 수명만큼 폐기 목록에 등록하고 다른 노드에 전파
+     */
+    public void revokeAccessToken(String subject, String accessToken) {
+
+        JwtClaims claims = jwtProvider.parseAndValidate(accessToken)
+                .filter(JwtClaims::isAccessToken)
+                .filter(parsed -> parsed.getTokenId() != null)
+                .filter(parsed -> subject.equals(parsed.getSubject()))
+                .orElse(null);
+        if (claims == null) {
+            return;
+        }
+
+        // 이미 파싱한 클레임에서 남은 수명을 계산 (getRemainingExpiration 과 같은 값, 재파싱 없음)
+        long remainingMillis = claims.getRemainingMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+
+        String tokenId = claims.getTokenId();
+        redisTemplate.opsForValue().set(REVOKED_JTI_PREFIX + tokenId, REVOKED_VALUE, remainingMillis, TimeUnit.MILLISECONDS);
+        addToFilters(tokenId);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId);
+        jwtProvider.evictFromCache(accessToken);
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+
+        String tokenId = claims.getTokenId();
+        if (tokenId == null) {
+            return false;
+        }
+
+        boolean filterSynced = synced;
+        if (filterSynced && !revokedTokenFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_JTI_PREFIX + tokenId));
+        } catch (DataAccessException e) {
+            // 필터가 "있을 수 있음" 이라고 답한 토큰만 보수적으로 차단
+            log.warn("토큰 폐기 여부 확인 실패 - jti: {}", tokenId, e);
+            return filterSynced;
+        }
+    }
+
+    /**
+     * 다른 노드(및 자신)가 발행한 폐기 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addToFilters(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Bloom filter 는 삭제가 불가능하므로 주기적으로 Redis 의 폐기 목록(만료된 jti 는 이미 사라짐)을 SCAN 하여 새로 만든다.
+     * 기동 직후 첫 실행이 끝나기 전까지는 모든 확인을 Redis 로 보낸다.
+     */
+    @Scheduled(fixedDelayString = "#{@tokenRevocationProperties.rebuildInterval.toMillis()}")
+    public void rebuild() {
+
+        BloomFilter filter = createFilter();
+        rebuildingFilter = filter;
+
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(REVOKED_JTI_PREFIX + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            int count = 0;
+            while (cursor.hasNext()) {
+                filter.put(cursor.next().substring(REVOKED_JTI_PREFIX.length()));
+                count++;
+            }
+            revokedTokenFilter = filter;
+            synced = true;
+            log.debug("토큰 폐기 Bloom filter 재구성 완료 - {}건", count);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 Bloom filter 재구성 실패 - 기존 필터를 유지합니다.", e);
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private void addToFilters(String tokenId) {
+        // 재구성 중인 필터를 먼저 읽어야 교체 직전에 들어온 jti 가 새 필터에서 빠지지 않는다
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+        revokedTokenFilter.put(tokenId);
+    }
+
+    private BloomFilter createFilter() {
+        return new BloomFilter(
+                tokenRevocationProperties.getExpectedInsertions(),
+                tokenRevocationProperties.getFalsePositiveProbability()
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package com.parkmate.authservice.common.security.session;
+
+import com.parkmate.authservice.authuser.dto.response.SessionResponseDto;
+import com.parkmate.authservice.authuser.dto.response.TokenRefreshResponseDto;
+import com.parkmate.authservice.common.exception.BaseException;
+import com.parkmate.authservice.common.generator.UUIDGenerator;
+import com.parkmate.authservice.common.redis.RedisService;
+import com.parkmate.authservice.common.redis.RefreshSession;
+import com.parkmate.authservice.common.redis.RefreshTokenRotationResult;
+import com.parkmate.authservice.common.response.ResponseStatus;
+import com.parkmate.authservice.common.roletype.RoleType;
+import com.parkmate.authservice.common.security.jwt.JwtClaims;
+import com.parkmate.authservice.common.security.jwt.JwtProvider;
+import com.parkmate.authservice.common.security.revocation.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자·호스트가 공유하는 기기 세션 발급/교체/종료 로직.
+ * DB 를 거치지 않고 JWT 서명 검증과 Redis 호출만으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionTokenService {
+
+    private static final long REFRESH_TOKEN_EXPIRY_MILLIS = Duration.ofDays(7).toMillis();
+
+    private final RedisService redisService;
+    private final JwtProvider jwtProvider;
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 로그인마다 새 기기 세션을 만들고 로그인 실패 횟수를 같은 스크립트에서 초기화한다
+     * (기기 수 한도를 넘으면 가장 오래된 세션부터 폐기)
+     */
+    public IssuedTokens startLoginSession(RoleType roleType, String uuid, String email) {
+        String sessionId = UUIDGenerator.generateUUID();
+        IssuedTokens tokens = generateTokens(roleType, uuid, sessionId);
+
+        redisService.completeLogin(
+                email,
+                roleType,
+                uuid,
+                RefreshSession.issue(sessionId, tokens.refreshToken(), REFRESH_TOKEN_EXPIRY_MILLIS)
+        );
+        return tokens;
+    }
+
+    /**
+     * 비밀번호 검증이 없는 경로(소셜 로그인)용. 로그인 실패 횟수는 건드리지 않는다
+     */
+    public IssuedTokens startSession(RoleType roleType, String uuid) {
+        String sessionId = UUIDGenerator.generateUUID();
+        IssuedTokens tokens = generateTokens(roleType, uuid, sessionId);
+
+        redisService.saveSession(uuid, roleType, RefreshSession.issue(sessionId, tokens.refreshToken(), REFRESH_TOKEN_EXPIRY_MILLIS));
+        return tokens;
+    }
+
+    /**
+     * 서명 검증 + Redis 1회 왕복으로 리프레시 토큰을 교체한다.
+     * 이미 교체된 토큰이 다시 제시되면 탈취로 보고 해당 세션을 폐기한다.
+     */
+    public TokenRefreshResponseDto refresh(RoleType roleType, String refreshToken) {
+
+        JwtClaims claims = jwtProvider.parseAndValidate(refreshToken)
+                .filter(JwtClaims::hasPrincipal)
+                .filter(JwtClaims::isRefreshToken)
+                .filter(parsed -> parsed.getRole() == roleType)
+                .filter(parsed -> parsed.getSessionId() != null)
+                .orElseThrow(() -> new BaseException(ResponseStatus.AUTH_TOKEN_INVALID));
+
+        String uuid = claims.getSubject();
+        IssuedTokens tokens = generateTokens(roleType, uuid, claims.getSessionId());
+
+        // 같은 기기 세션(sid) 안에서만 교체하므로 다른 기기의 세션에는 영향이 없다
+        RefreshTokenRotationResult result = redisService.rotateSession(
+                uuid,
+                roleType,
+                refreshToken,
+                RefreshSession.issue(claims.getSessionId(), tokens.refreshToken(), REFRESH_TOKEN_EXPIRY_MILLIS)
+        );
+
+        if (result == RefreshTokenRotationResult.REUSED) {
+            log.warn("리프레시 토큰 재사용 감지 - 세션 폐기 role: {}, uuid: {}, sessionId: {}", roleType, uuid, claims.getSessionId());
+            throw new BaseException(ResponseStatus.AUTH_REFRESH_TOKEN_REUSED);
+        }
+        if (result == RefreshTokenRotationResult.NOT_FOUND) {
+            throw new BaseException(ResponseStatus.AUTH_TOKEN_EXPIRED);
+        }
+
+        jwtProvider.evictFromCache(refreshToken);
+        return TokenRefreshResponseDto.of(tokens.accessToken(), tokens.refreshToken());
+    }
+
+    /**
+     * 리프레시 토큰이 함께 오면 해당 기기 세션만, 없으면 모든 기기 세션을 종료한다.
+     * 액세스 토큰이 함께 오면 남은 수명 동안 재사용할 수 없도록 폐기 목록에 등록한다.
+     */
+    public void logout(RoleType roleType, String uuid, String authorizationHeader, String refreshToken) {
+
+        String accessToken = jwtProvider.resolveBearerToken(authorizationHeader);
+        if (accessToken != null) {
+            tokenRevocationService.revokeAccessToken(uuid, accessToken);
+        }
+
+        if (refreshToken == null || refreshToken.isBlank()) {
+            redisService.revokeAllSessions(uuid, roleType);
+            return;
+        }
+
+        jwtProvider.parseAndValidate(refreshToken)
+                .filter(JwtClaims::isRefreshToken)
+                .filter(claims -> uuid.equals(claims.getSubject()))
+                .map(JwtClaims::getSessionId)
+                .ifPresent(sessionId -> redisService.revokeSession(uuid, roleType, sessionId));
+        jwtProvider.evictFromCache(refreshToken);
+    }
+
+    public List<SessionResponseDto> getSessions(RoleType roleType, String uuid) {
+        return redisService.findSessions(uuid, roleType).stream()
+                .map(SessionResponseDto::from)
+                .toList();
+    }
+
+    public void revokeSession(RoleType roleType, String uuid, String sessionId) {
+        if (!redisService.revokeSession(uuid, roleType, sessionId)) {
+            throw new BaseException(ResponseStatus.AUTH_SESSION_NOT_FOUND);
+        }
+    }
+
+    private IssuedTokens generateTokens(RoleType roleType, String uuid, String sessionId) {
+        return new IssuedTokens(
+                jwtProvider.generateAccessToken(uuid, roleType),
+                jwtProvider.generateRefreshToken(uuid, roleType, sessionId)
+        );
+    }
+
+    public record IssuedTokens(String accessToken, String refreshToken) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.parkmate.authservice.common.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증코드 형식 검증. 길이와 문자는 auth.verification.code 설정(생성기와 같은 값)을 따른다. null 은 통과시키므로 @NotBlank 와 함께 쓴다.
+ */
+@Documented
+@Constraint(validatedBy = VerificationCodeValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VerificationCode {
+
+    String message() default "인증 코드 형식이 올바르지 않습니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,34 @@
+package com.parkmate.authservice.common.validation;
+
+import com.parkmate.authservice.common.config.VerificationCodeProperties;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spring 의 검증기 팩토리가 생성하므로 설정 빈을 주입받을 수 있다
+ */
+@RequiredArgsConstructor
+public class VerificationCodeValidator implements ConstraintValidator<VerificationCode, String> {
+
+    private final VerificationCodeProperties verificationCodeProperties;
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+
+        if (value == null) {
+            return true;
+        }
+        if (value.length() != verificationCodeProperties.getLength()) {
+            return false;
+        }
+
+        String alphabet = verificationCodeProperties.getAlphabet();
+        for (int i = 0; i < value.length(); i++) {
+            if (alphabet.indexOf(value.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+package com.parkmate.authservice.outbox.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkmate.authservice.authhost.dto.request.feign.HostRegisterRequestForHostServiceDto;
+import com.parkmate.authservice.authhost.infrastructure.client.HostFeignClient;
+import com.parkmate.authservice.authuser.dto.request.feign.UserRegisterRequestForSocialUserDto;
+import com.parkmate.authservice.authuser.dto.request.feign.UserRegisterRequestForUserServiceDto;
+import com.parkmate.authservice.authuser.infrastructure.client.UserFeignClient;
+import com.parkmate.authservice.outbox.domain.OutboxEvent;
+import com.parkmate.authservice.outbox.domain.OutboxEventType;
+import com.parkmate.authservice.outbox.dto.OutboxBatchItemDto;
+import com.parkmate.authservice.outbox.dto.OutboxBatchRequestDto;
+import com.parkmate.authservice.outbox.dto.OutboxBatchResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 이벤트 종류별로 대상 서비스에 전송. eventId 를 Idempotency-Key 로 보내 재전송 시 중복 등록을 막는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventDispatcher {
+
+    private final UserFeignClient userFeignClient;
+    private final HostFeignClient hostFeignClient;
+    private final ObjectMapper objectMapper;
+
+    public void dispatch(OutboxEvent outboxEvent) {
+
+        String idempotencyKey = outboxEvent.getEventId();
+
+        switch (outboxEvent.getEventType()) {
+            case USER_REGISTERED -> userFeignClient.registerUser(
+                    idempotencyKey,
+                    readPayload(outboxEvent, UserRegisterRequestForUserServiceDto.class)
+            );
+            case SOCIAL_USER_REGISTERED -> userFeignClient.registerSocialUser(
+                    idempotencyKey,
+                    readPayload(outboxEvent, UserRegisterRequestForSocialUserDto.class)
+            );
+            case HOST_REGISTERED -> hostFeignClient.registerHost(
+                    idempotencyKey,
+                    readPayload(outboxEvent, HostRegisterRequestForHostServiceDto.class)
+            );
+        }
+    }
+
+    /**
+     * 같은 종류의 이벤트를 요청 한 번으로 전송하고, 전송하지 못한 eventId 와 사유를 반환한다.
+     * payload 를 읽지 못한 이벤트는 그 이벤트만 빼고 보내며, 요청 자체가 실패하면 예외를 그대로 던져 묶음 전체를 재시도 대상으로 남긴다.
+     */
+    public Map<String, String> dispatchBatch(OutboxEventType eventType, List<OutboxEvent> outboxEvents) {
+
+        Map<String, String> failures = new LinkedHashMap<>();
+
+        OutboxBatchResponseDto response = switch (eventType) {
+            case USER_REGISTERED -> send(
+                    toBatchRequest(outboxEvents, UserRegisterRequestForUserServiceDto.class, failures),
+                    userFeignClient::registerUsers
+            );
+            case SOCIAL_USER_REGISTERED -> send(
+                    toBatchRequest(outboxEvents, UserRegisterRequestForSocialUserDto.class, failures),
+                    userFeignClient::registerSocialUsers
+            );
+            case HOST_REGISTERED -> send(
+                    toBatchRequest(outboxEvents, HostRegisterRequestForHostServiceDto.class, failures),
+                    hostFeignClient::registerHosts
+            );
+        };
+
+        if (response != null && response.getFailedEventIds() != null) {
+            response.getFailedEventIds().forEach(eventId -> failures.putIfAbsent(eventId, "수신 측에서 처리하지 못한 이벤트"));
+        }
+        return failures;
+    }
+
+    private <T> OutboxBatchResponseDto send(OutboxBatchRequestDto<T> request,
+                                            Function<OutboxBatchRequestDto<T>, OutboxBatchResponseDto> client) {
+        return request.getItems().isEmpty() ? null : client.apply(request);
+    }
+
+    private <T> OutboxBatchRequestDto<T> toBatchRequest(List<OutboxEvent> outboxEvents,
+                                                        Class<T> payloadType,
+                                                        Map<String, String> failures) {
+        List<OutboxBatchItemDto<T>> items = new ArrayList<>(outboxEvents.size());
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            try {
+                items.add(OutboxBatchItemDto.of(outboxEvent.getEventId(), readPayload(outboxEvent, payloadType)));
+            } catch (OutboxPayloadException e) {
+                failures.put(outboxEvent.getEventId(), e.getMessage());
+            }
+        }
+        return OutboxBatchRequestDto.from(items);
+    }
+
+    private <T> T readPayload(OutboxEvent outboxEvent, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new OutboxPayloadException("아웃박스 payload 역직렬화 실패 - eventId: " + outboxEvent.getEventId(), e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.parkmate.authservice.outbox.application;
+
+/**
+ * 저장된 payload 를 읽을 수 없음. 다시 보내도 결과가 같으므로 재시도하지 않는다.
+ */
+public class OutboxPayloadException extends IllegalStateException {
+
+    public OutboxPayloadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,41 @@
+package com.parkmate.authservice.outbox.application;
+
+import com.parkmate.authservice.common.config.OutboxProperties;
+import com.parkmate.authservice.common.config.SchedulingConfig;
+import com.parkmate.authservice.outbox.infrastructure.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 SENT 이벤트 정리. 짧은 트랜잭션으로 나눠 지워 잠금과 undo 가 한 번에 커지지 않게 한다.
+ * FAILED 이벤트는 수동 처리 대상이므로 지우지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPurger {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties outboxProperties;
+
+    @Scheduled(fixedDelayString = "#{@outboxProperties.purgeInterval.toMillis()}", scheduler = SchedulingConfig.OUTBOX_SCHEDULER)
+    public void purgeSent() {
+
+        LocalDateTime before = LocalDateTime.now().minus(outboxProperties.getSentRetention());
+        int batchSize = Math.max(outboxProperties.getPurgeBatchSize(), 1);
+
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = outboxEventRepository.deleteSentBefore(before, batchSize);
+            purged += deleted;
+        } while (deleted >= batchSize);
+
+        if (purged > 0) {
+            log.info("아웃박스 SENT 이벤트 정리 - {}건, 기준: {}", purged, before);
+        }
+    }
+}
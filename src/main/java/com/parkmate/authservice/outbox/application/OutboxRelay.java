@@ -0,0 +1,242 @@
+package com.parkmate.authservice.outbox.application;
+
+import com.parkmate.authservice.common.config.OutboxProperties;
+import com.parkmate.authservice.common.config.SchedulingConfig;
+import com.parkmate.authservice.outbox.domain.OutboxEvent;
+import com.parkmate.authservice.outbox.domain.OutboxEventType;
+import com.parkmate.authservice.outbox.domain.OutboxStatus;
+import com.parkmate.authservice.outbox.infrastructure.OutboxEventRepository;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트를 주기적으로 가져가 전송한다.
+ * 점유(FOR UPDATE SKIP LOCKED) → 커밋 → 트랜잭션 밖에서 전송 → 결과 기록 순으로, 전송 중에는 DB 커넥션을 잡지 않는다.
+ * 여러 노드가 동시에 실행해도 같은 이벤트를 가져가지 않는다.
+ * 점유한 이벤트는 종류별로 묶어 deliveryParallelism 개까지 동시에 전송하고, 배치 전송이 켜져 있으면 묶음 단위로 한 번에 보낸다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    // 4xx 중 잠시 후 다시 보내면 성공할 수 있는 상태 (Request Timeout, Too Early, Too Many Requests)
+    private static final Set<Integer> NON_PERMANENT_CLIENT_ERRORS = Set.of(408, 425, 429);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventDispatcher outboxEventDispatcher;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService deliveryExecutor;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxEventDispatcher outboxEventDispatcher,
+                       OutboxProperties outboxProperties,
+                       TransactionTemplate transactionTemplate) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventDispatcher = outboxEventDispatcher;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.deliveryExecutor = Executors.newFixedThreadPool(
+                Math.max(outboxProperties.getDeliveryParallelism(), 1),
+                new CustomizableThreadFactory("outbox-delivery-")
+        );
+    }
+
+    @Scheduled(fixedDelayString = "#{@outboxProperties.pollInterval.toMillis()}", scheduler = SchedulingConfig.OUTBOX_SCHEDULER)
+    public void relay() {
+
+        // 꽉 찬 묶음을 가져왔다면 다음 주기를 기다리지 않고 이어서 처리하되, 한 주기에 maxDrainRounds 번까지만
+        int maxDrainRounds = Math.max(outboxProperties.getMaxDrainRounds(), 1);
+        for (int round = 0; round < maxDrainRounds; round++) {
+            List<OutboxEvent> claimedEvents = claim();
+            if (claimedEvents.isEmpty()) {
+                return;
+            }
+            deliver(claimedEvents);
+            if (claimedEvents.size() < outboxProperties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    private List<OutboxEvent> claim() {
+        List<OutboxEvent> claimedEvents = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> dueEvents = outboxEventRepository.findDueForUpdate(
+                    OutboxStatus.PENDING,
+                    now,
+                    PageRequest.of(0, outboxProperties.getBatchSize())
+            );
+            if (shouldLinger(dueEvents, now)) {
+                return List.<OutboxEvent>of();
+            }
+            LocalDateTime claimExpiresAt = now.plus(outboxProperties.getClaimTimeout());
+            dueEvents.forEach(outboxEvent -> outboxEvent.claim(claimExpiresAt));
+            return dueEvents;
+        });
+        return claimedEvents != null ? claimedEvents : List.of();
+    }
+
+    /**
+     * 배치 전송 시 묶음이 덜 찼고 가장 오래 기다린 이벤트도 linger 를 넘기지 않았다면 이번 주기는 건너뛰고 더 모은다
+     */
+    private boolean shouldLinger(List<OutboxEvent> dueEvents, LocalDateTime now) {
+        if (!outboxProperties.isBatchEnabled() || dueEvents.isEmpty()
+                || dueEvents.size() >= outboxProperties.getBatchSize()) {
+            return false;
+        }
+        LocalDateTime oldestDueAt = dueEvents.stream()
+                .map(OutboxEvent::getNextAttemptAt)
+                .min(Comparator.naturalOrder())
+                .orElse(now);
+        return oldestDueAt.plus(outboxProperties.getLinger()).isAfter(now);
+    }
+
+    private void deliver(List<OutboxEvent> claimedEvents) {
+
+        int chunkSize = outboxProperties.isBatchEnabled() ? Math.max(outboxProperties.getDeliveryBatchSize(), 1) : 1;
+
+        List<CompletableFuture<DeliveryResult>> futures = new ArrayList<>();
+        claimedEvents.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getEventType, LinkedHashMap::new, Collectors.toList()))
+                .forEach((eventType, events) -> {
+                    for (int from = 0; from < events.size(); from += chunkSize) {
+                        List<OutboxEvent> chunk = events.subList(from, Math.min(from + chunkSize, events.size()));
+                        futures.add(CompletableFuture.supplyAsync(() -> deliverChunk(eventType, chunk), deliveryExecutor));
+                    }
+                });
+
+        List<Long> sentIds = new ArrayList<>();
+        Map<Long, Failure> failures = new LinkedHashMap<>();
+        for (CompletableFuture<DeliveryResult> future : futures) {
+            DeliveryResult result = future.join();
+            sentIds.addAll(result.sentIds());
+            failures.putAll(result.failures());
+        }
+
+        complete(sentIds, failures);
+    }
+
+    private DeliveryResult deliverChunk(OutboxEventType eventType, List<OutboxEvent> chunk) {
+
+        List<Long> sentIds = new ArrayList<>();
+        Map<Long, Failure> failures = new LinkedHashMap<>();
+
+        // 이미 한 번 실패한 이벤트는 묶음에 다시 넣지 않고 단건으로 보내, 문제 있는 이벤트가 다른 이벤트의 전송을 막지 않게 한다
+        List<OutboxEvent> singleEvents = chunk;
+        if (outboxProperties.isBatchEnabled()) {
+            List<OutboxEvent> batchEvents = chunk.stream().filter(outboxEvent -> outboxEvent.getAttempts() <= 1).toList();
+            singleEvents = chunk.stream().filter(outboxEvent -> outboxEvent.getAttempts() > 1).toList();
+            if (!batchEvents.isEmpty()) {
+                deliverBatch(eventType, batchEvents, sentIds, failures);
+            }
+        }
+
+        for (OutboxEvent outboxEvent : singleEvents) {
+            try {
+                outboxEventDispatcher.dispatch(outboxEvent);
+                sentIds.add(outboxEvent.getId());
+            } catch (Exception e) {
+                failures.put(outboxEvent.getId(), new Failure(describe(e), isRetryable(e)));
+            }
+        }
+        return new DeliveryResult(sentIds, failures);
+    }
+
+    private void deliverBatch(OutboxEventType eventType,
+                              List<OutboxEvent> batchEvents,
+                              List<Long> sentIds,
+                              Map<Long, Failure> failures) {
+        try {
+            Map<String, String> rejectedEvents = outboxEventDispatcher.dispatchBatch(eventType, batchEvents);
+            for (OutboxEvent outboxEvent : batchEvents) {
+                // 묶음 안에서 거절된 이벤트는 재시도 가능으로 두고, 다음 시도에서 단건 전송 결과로 재시도 여부를 판단한다
+                String error = rejectedEvents.get(outboxEvent.getEventId());
+                if (error != null) {
+                    failures.put(outboxEvent.getId(), new Failure(error, true));
+                } else {
+                    sentIds.add(outboxEvent.getId());
+                }
+            }
+        } catch (Exception e) {
+            Failure failure = new Failure(describe(e), true);
+            batchEvents.forEach(outboxEvent -> failures.put(outboxEvent.getId(), failure));
+        }
+    }
+
+    private void complete(List<Long> sentIds, Map<Long, Failure> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxEventRepository.updateStatus(sentIds, OutboxStatus.SENT);
+            }
+            failures.forEach((id, failure) -> outboxEventRepository.findById(id)
+                    .ifPresent(outboxEvent -> {
+                        if (failure.retryable()) {
+                            outboxEvent.recordFailure(failure.error(), LocalDateTime.now().plus(backoff(outboxEvent.getAttempts())), outboxProperties.getMaxAttempts());
+                        } else {
+                            outboxEvent.markFailed(failure.error());
+                        }
+                        if (outboxEvent.getStatus() == OutboxStatus.FAILED) {
+                            log.error("아웃박스 전송 최종 실패 - eventId: {}, type: {}, 사유: {}",
+                                    outboxEvent.getEventId(), outboxEvent.getEventType(), failure.error());
+                        } else {
+                            log.warn("아웃박스 전송 실패 - eventId: {}, 시도: {}, 사유: {}",
+                                    outboxEvent.getEventId(), outboxEvent.getAttempts(), failure.error());
+                        }
+                    }));
+        });
+    }
+
+    private Duration backoff(int attempts) {
+        Duration initialBackoff = outboxProperties.getInitialBackoff();
+        Duration maxBackoff = outboxProperties.getMaxBackoff();
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /**
+     * 다시 보내도 결과가 같은 실패(요청 형식 오류, 이미 존재하는 키 등 4xx, 읽을 수 없는 payload)는 재시도하지 않는다.
+     * 408·425·429 와 5xx, 연결 실패는 일시적인 실패로 본다.
+     */
+    private boolean isRetryable(Exception e) {
+        if (e instanceof FeignException feignException) {
+            int status = feignException.status();
+            return status < 400 || status >= 500 || NON_PERMANENT_CLIENT_ERRORS.contains(status);
+        }
+        return !(e instanceof OutboxPayloadException);
+    }
+
+    private String describe(Exception e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    @Override
+    public void destroy() {
+        deliveryExecutor.shutdown();
+    }
+
+    private record DeliveryResult(List<Long> sentIds, Map<Long, Failure> failures) {
+    }
+
+    private record Failure(String error, boolean retryable) {
+    }
+}
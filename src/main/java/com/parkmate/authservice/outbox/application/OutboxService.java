@@ -0,0 +1,48 @@
+package com.parkmate.authservice.outbox.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkmate.authservice.common.generator.UUIDGenerator;
+import com.parkmate.authservice.outbox.domain.OutboxEvent;
+import com.parkmate.authservice.outbox.domain.OutboxEventType;
+import com.parkmate.authservice.outbox.infrastructure.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 호출한 쪽의 트랜잭션 안에서 이벤트를 기록한다. 전송은 커밋 이후 OutboxRelay 가 비동기로 처리한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, String aggregateUuid, Object payload) {
+        outboxEventRepository.save(newEvent(eventType, aggregateUuid, payload));
+    }
+
+    /**
+     * 저장하지 않고 이벤트만 만든다. JDBC 배치로 직접 INSERT 하는 경로(대량 가져오기)에서 사용
+     */
+    public OutboxEvent newEvent(OutboxEventType eventType, String aggregateUuid, Object payload) {
+        return OutboxEvent.builder()
+                .eventId(UUIDGenerator.generateUUID())
+                .eventType(eventType)
+                .aggregateUuid(aggregateUuid)
+                .payload(toJson(payload))
+                .build();
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 payload 직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.parkmate.authservice.outbox.domain;
+
+import com.parkmate.authservice.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "auth_outbox",
+        indexes = @Index(name = "IDX_auth_outbox_status_next_attempt", columnList = "status, nextAttemptAt")
+)
+public class OutboxEvent extends BaseEntity {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("아웃박스 PK")
+    private Long id;
+
+    @Comment("이벤트 UUID (수신 측 멱등 키)")
+    @Column(nullable = false, unique = true, length = 36)
+    private String eventId;
+
+    @Comment("이벤트 종류")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    @Comment("대상 user/host UUID")
+    @Column(nullable = false, length = 36)
+    private String aggregateUuid;
+
+    @Comment("전송 본문 (JSON)")
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Comment("전송 상태 (PENDING, SENT, FAILED)")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Comment("전송 시도 횟수")
+    @Column(nullable = false)
+    private int attempts;
+
+    @Comment("다음 전송 가능 시각 (전송 중에는 점유 만료 시각)")
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Comment("마지막 실패 사유")
+    @Column(length = LAST_ERROR_MAX_LENGTH)
+    private String lastError;
+
+    @Builder
+    private OutboxEvent(String eventId,
+                        OutboxEventType eventType,
+                        String aggregateUuid,
+                        String payload) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.aggregateUuid = aggregateUuid;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 전송 시작 시 점유. 점유 만료 전에 결과가 기록되지 않으면(노드 장애 등) 다시 전송 대상이 된다.
+     */
+    public void claim(LocalDateTime claimExpiresAt) {
+        this.attempts++;
+        this.nextAttemptAt = claimExpiresAt;
+    }
+
+    /**
+     * 재시도해도 결과가 같은 실패. 시도 횟수와 관계없이 바로 FAILED 로 남긴다.
+     */
+    public void markFailed(String error) {
+        this.lastError = truncate(error);
+        this.status = OutboxStatus.FAILED;
+    }
+
+    public void recordFailure(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = truncate(error);
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = retryAt;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > LAST_ERROR_MAX_LENGTH
+                ? error.substring(0, LAST_ERROR_MAX_LENGTH)
+                : error;
+    }
+}
@@ -0,0 +1,8 @@
+package com.parkmate.authservice.outbox.domain;
+
+public enum OutboxEventType {
+
+    USER_REGISTERED,
+    SOCIAL_USER_REGISTERED,
+    HOST_REGISTERED
+}
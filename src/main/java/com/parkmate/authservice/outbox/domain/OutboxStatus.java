@@ -0,0 +1,8 @@
+package com.parkmate.authservice.outbox.domain;
+
+public enum OutboxStatus {
+
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,27 @@
+package com.parkmate.authservice.outbox.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class OutboxBatchItemDto<T> {
+
+    // 수신 측 멱등 키 (단건 전송의 Idempotency-Key 와 같은 값)
+    private String eventId;
+    private T payload;
+
+    @Builder
+    private OutboxBatchItemDto(String eventId, T payload) {
+        this.eventId = eventId;
+        this.payload = payload;
+    }
+
+    public static <T> OutboxBatchItemDto<T> of(String eventId, T payload) {
+        return OutboxBatchItemDto.<T>builder()
+                .eventId(eventId)
+                .payload(payload)
+                .build();
+    }
+}
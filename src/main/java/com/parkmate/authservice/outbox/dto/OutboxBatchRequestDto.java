@@ -0,0 +1,24 @@
+package com.parkmate.authservice.outbox.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class OutboxBatchRequestDto<T> {
+
+    private List<OutboxBatchItemDto<T>> items;
+
+    @Builder
+    private OutboxBatchRequestDto(List<OutboxBatchItemDto<T>> items) {
+        this.items = items;
+    }
+
+    public static <T> OutboxBatchRequestDto<T> from(List<OutboxBatchItemDto<T>> items) {
+        return OutboxBatchRequestDto.<T>builder()
+                .items(items)
+                .build();
+    }
+}
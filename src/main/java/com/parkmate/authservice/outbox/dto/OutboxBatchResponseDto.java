@@ -0,0 +1,21 @@
+package com.parkmate.authservice.outbox.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 배치 전송 결과. 수신 측이 처리하지 못한 eventId 만 돌려주며, 비어 있으면 전부 처리된 것으로 본다.
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OutboxBatchResponseDto {
+
+    private List<String> failedEventIds;
+
+    public List<String> getFailedEventIds() {
+        return failedEventIds != null ? failedEventIds : List.of();
+    }
+}
@@ -0,0 +1,50 @@
+package com.parkmate.authservice.outbox.infrastructure;
+
+import com.parkmate.authservice.outbox.domain.OutboxEvent;
+import com.parkmate.authservice.outbox.domain.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // lock.timeout = -2 → SELECT ... FOR UPDATE SKIP LOCKED (다른 노드가 점유 중인 행은 건너뜀)
+    String SKIP_LOCKED = "-2";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+            select e from OutboxEvent e
+            where e.status = :status and e.nextAttemptAt <= :now
+            order by e.id
+            """)
+    List<OutboxEvent> findDueForUpdate(@Param("status") OutboxStatus status,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.lastError = null where e.id in :ids")
+    int updateStatus(@Param("ids") List<Long> ids, @Param("status") OutboxStatus status);
+
+    /**
+     * 보존 기간이 지난 SENT 이벤트를 limit 건씩 삭제.
+     * 벌크 UPDATE 는 updated_at 을 갱신하지 않으므로, 전송 직전 점유 시각이 기록되는 next_attempt_at 으로 판단한다 (status, next_attempt_at 인덱스 사용)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            delete from auth_outbox
+            where status = 'SENT' and next_attempt_at < :before
+            limit :limit
+            """, nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,86 @@
+package com.parkmate.authservice.admin.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkmate.authservice.admin.domain.ImportFormat;
+import com.parkmate.authservice.admin.infrastructure.ImportRecordReader.ImportLine;
+import com.parkmate.authservice.admin.vo.request.UserImportRecordVo;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportRecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 따옴표_안의_쉼표는_값의_일부다() {
+        assertThat(ImportRecordReader.splitCsvLine("a,\"b,c\",d")).containsExactly("a", "b,c", "d");
+    }
+
+    @Test
+    void 따옴표_두_개는_따옴표_하나로_읽는다() {
+        assertThat(ImportRecordReader.splitCsvLine("\"say \"\"hi\"\"\",x")).containsExactly("say \"hi\"", "x");
+        assertThat(ImportRecordReader.splitCsvLine("\"\"\"\"")).containsExactly("\"");
+    }
+
+    @Test
+    void 빈_값도_열로_센다() {
+        assertThat(ImportRecordReader.splitCsvLine("a,,")).containsExactly("a", "", "");
+        assertThat(ImportRecordReader.splitCsvLine("")).containsExactly("");
+    }
+
+    @Test
+    void CSV_헤더의_BOM_은_제거된다() throws IOException {
+        ImportRecordReader<UserImportRecordVo> reader = reader(ImportFormat.CSV,
+                "\uFEFFemail,name,password,phoneNumber\n"
+                        + "a@parkmate.com,\"Kim, Jr\",pw,01012345678\n");
+
+        ImportLine<UserImportRecordVo> line = reader.next();
+
+        assertThat(line.error()).isNull();
+        assertThat(line.lineNumber()).isEqualTo(2);
+        assertThat(line.record().getEmail()).isEqualTo("a@parkmate.com");
+        assertThat(line.record().getName()).isEqualTo("Kim, Jr");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void NDJSON_첫_줄의_BOM_은_제거된다() throws IOException {
+        ImportRecordReader<UserImportRecordVo> reader = reader(ImportFormat.NDJSON,
+                "\uFEFF{\"email\":\"a@parkmate.com\"}\n");
+
+        ImportLine<UserImportRecordVo> line = reader.next();
+
+        assertThat(line.error()).isNull();
+        assertThat(line.record().getEmail()).isEqualTo("a@parkmate.com");
+    }
+
+    @Test
+    void 열_개수가_다른_행은_오류로_반환하고_다음_행을_계속_읽는다() throws IOException {
+        ImportRecordReader<UserImportRecordVo> reader = reader(ImportFormat.CSV,
+                "email,name\n"
+                        + "a@parkmate.com\n"
+                        + "\n"
+                        + "b@parkmate.com,Lee\n");
+
+        ImportLine<UserImportRecordVo> broken = reader.next();
+        ImportLine<UserImportRecordVo> next = reader.next();
+
+        assertThat(broken.lineNumber()).isEqualTo(2);
+        assertThat(broken.error()).isNotNull();
+        assertThat(next.lineNumber()).isEqualTo(4);
+        assertThat(next.record().getEmail()).isEqualTo("b@parkmate.com");
+    }
+
+    private ImportRecordReader<UserImportRecordVo> reader(ImportFormat format, String body) {
+        return new ImportRecordReader<>(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                format,
+                UserImportRecordVo.class,
+                objectMapper
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.parkmate.authservice.common.generator;
+
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DigestGeneratorTest {
+
+    @Test
+    void SHA_256_은_표준_테스트_벡터와_같다() {
+        assertThat(DigestGenerator.sha256("abc")).isEqualTo("ungWv48Bz-pBQUDeXa4iI7ADYaOWF3qctBD_YfIAFa0");
+    }
+
+    @Test
+    void HMAC_SHA_256_은_RFC_4231_테스트_벡터와_같다() {
+        byte[] key = "Jefe".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(DigestGenerator.hmacSha256(key, "what do ya want for nothing?"))
+                .isEqualTo("W9zBRr9gdU5qBCQmCJV1x1oAPwidJzmDnexYuWTsOEM");
+    }
+
+    @Test
+    void 키가_다르면_같은_값도_다른_digest_가_된다() {
+        byte[] key1 = new byte[32];
+        byte[] key2 = new byte[32];
+        key2[0] = 1;
+
+        assertThat(DigestGenerator.hmacSha256(key1, "123456")).isNotEqualTo(DigestGenerator.hmacSha256(key2, "123456"));
+    }
+}
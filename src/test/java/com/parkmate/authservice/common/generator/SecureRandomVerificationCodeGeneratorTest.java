@@ -0,0 +1,70 @@
+package com.parkmate.authservice.common.generator;
+
+import com.parkmate.authservice.common.config.VerificationCodeProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SecureRandomVerificationCodeGeneratorTest {
+
+    @Test
+    void 설정한_길이와_알파벳으로만_코드를_만든다() {
+        SecureRandomVerificationCodeGenerator generator = generator(8, "ABCDEFGHJK");
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(generator.generate()).hasSize(8).matches("[A-HJK]{8}");
+        }
+    }
+
+    @Test
+    void 기본_설정은_숫자_6자리다() {
+        SecureRandomVerificationCodeGenerator generator =
+                new SecureRandomVerificationCodeGenerator(new VerificationCodeProperties());
+
+        assertThat(generator.generate()).matches("\\d{6}");
+    }
+
+    @Test
+    void 거절_샘플링으로_나머지_편향이_없다() {
+        // 알파벳 200자: 거절 없이 % 200 을 하면 앞쪽 56자(256 - 200)가 두 배로 자주 나온다
+        StringBuilder alphabet = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            alphabet.append((char) ('가' + i));
+        }
+        SecureRandomVerificationCodeGenerator generator = generator(100, alphabet.toString());
+
+        long[] counts = new long[200];
+        for (int i = 0; i < 2_000; i++) {
+            for (char c : generator.generate().toCharArray()) {
+                counts[c - '가']++;
+            }
+        }
+
+        double headMean = mean(counts, 0, 56);
+        double tailMean = mean(counts, 56, 200);
+        assertThat(headMean / tailMean).isBetween(0.95, 1.05);
+    }
+
+    @Test
+    void 잘못된_설정이면_생성에_실패한다() {
+        assertThatThrownBy(() -> generator(0, "0123456789")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> generator(6, "0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> generator(6, "0012")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SecureRandomVerificationCodeGenerator generator(int length, String alphabet) {
+        VerificationCodeProperties properties = new VerificationCodeProperties();
+        properties.setLength(length);
+        properties.setAlphabet(alphabet);
+        return new SecureRandomVerificationCodeGenerator(properties);
+    }
+
+    private static double mean(long[] counts, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += counts[i];
+        }
+        return (double) sum / (to - from);
+    }
+}
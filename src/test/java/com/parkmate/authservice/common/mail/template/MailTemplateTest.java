@@ -0,0 +1,56 @@
+package com.parkmate.authservice.common.mail.template;
+
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplateTest {
+
+    @Test
+    void 자리표시자를_값으로_채운다() {
+        MailTemplate template = MailTemplate.compile("안녕하세요 {{name}}님, 코드는 {{ code }} 입니다.", false);
+
+        assertThat(template.render(Map.of("name", "홍길동", "code", "123456")))
+                .isEqualTo("안녕하세요 홍길동님, 코드는 123456 입니다.");
+    }
+
+    @Test
+    void HTML_템플릿은_값만_이스케이프한다() {
+        MailTemplate template = MailTemplate.compile("<p>{{name}}</p>", true);
+
+        assertThat(template.render(Map.of("name", "<script>\"x\" & 'y'</script>")))
+                .isEqualTo("<p>&lt;script&gt;&quot;x&quot; &amp; &#39;y&#39;&lt;/script&gt;</p>");
+    }
+
+    @Test
+    void 텍스트_템플릿은_값을_그대로_넣는다() {
+        MailTemplate template = MailTemplate.compile("{{name}}", false);
+
+        assertThat(template.render(Map.of("name", "<b>Kim</b>"))).isEqualTo("<b>Kim</b>");
+    }
+
+    @Test
+    void 값이_없는_변수가_있으면_실패한다() {
+        MailTemplate template = MailTemplate.compile("{{name}} / {{code}}", false);
+
+        assertThatThrownBy(() -> template.render(Map.of("name", "Kim")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("code");
+    }
+
+    @Test
+    void 변수가_없는_템플릿은_원문을_그대로_돌려준다() {
+        String source = "계정이 잠겼습니다.";
+        MailTemplate template = MailTemplate.compile(source, true);
+
+        assertThat(template.render(Map.of())).isSameAs(source);
+    }
+
+    @Test
+    void 닫히지_않은_변수는_컴파일에_실패한다() {
+        assertThatThrownBy(() -> MailTemplate.compile("안녕하세요 {{name", false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.parkmate.authservice.common.redis;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Lua 스크립트를 실제 Redis 에서 실행하는 테스트의 공통 준비. 컨테이너는 테스트 클래스 사이에서 하나를 공유한다.
+ * 현재 시각은 ARGV 로 넘기므로 시간 경과는 인자로 흉내 낸다. Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+abstract class RedisScriptTestSupport {
+
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    protected static final String VERIFICATION_KEY = "verification:user:a@parkmate.com";
+
+    protected static final long CODE_TTL = Duration.ofMinutes(5).toMillis();
+    protected static final long COOLDOWN = Duration.ofMinutes(1).toMillis();
+    protected static final long SEND_LIMIT = 3;
+    protected static final long SEND_WINDOW = Duration.ofDays(1).toMillis();
+    protected static final long ATTEMPT_LIMIT = 5;
+    protected static final long BLOCK = Duration.ofMinutes(10).toMillis();
+
+    protected static StringRedisTemplate redisTemplate;
+
+    // 키 만료(PEXPIREAT)가 실제 시각 기준이므로 기준 시각은 현재 시각으로 잡는다
+    protected long now;
+
+    @BeforeAll
+    static void connect() {
+        if (redisTemplate != null) {
+            return;
+        }
+        REDIS.start();
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        now = System.currentTimeMillis();
+    }
+
+    // ==================== 인증코드 스크립트 호출 ====================
+
+    @SuppressWarnings("unchecked")
+    protected List<Long> send(String digest, long at) {
+        return redisTemplate.execute(
+                RedisScripts.SEND_VERIFICATION,
+                List.of(VERIFICATION_KEY),
+                digest,
+                String.valueOf(at),
+                String.valueOf(CODE_TTL),
+                String.valueOf(COOLDOWN),
+                String.valueOf(SEND_LIMIT),
+                String.valueOf(SEND_WINDOW)
+        );
+    }
+
+    protected Long cancel(String digest) {
+        return redisTemplate.execute(RedisScripts.CANCEL_VERIFICATION, List.of(VERIFICATION_KEY), digest);
+    }
+
+    protected Long verify(String digest, long at) {
+        return redisTemplate.execute(
+                RedisScripts.VERIFY_VERIFICATION,
+                List.of(VERIFICATION_KEY),
+                digest,
+                String.valueOf(at),
+                String.valueOf(ATTEMPT_LIMIT),
+                String.valueOf(BLOCK)
+        );
+    }
+
+    protected Long consume(String digest, long at) {
+        return redisTemplate.execute(
+                RedisScripts.CONSUME_VERIFICATION,
+                List.of(VERIFICATION_KEY),
+                digest,
+                String.valueOf(at)
+        );
+    }
+
+    // 허용 횟수만큼 틀린 뒤 한 번 더 틀려 차단시킨다
+    protected void blockVerification(long at) {
+        for (int i = 0; i <= ATTEMPT_LIMIT; i++) {
+            verify("wrong", at);
+        }
+    }
+
+    protected String field(String name) {
+        return (String) redisTemplate.opsForHash().get(VERIFICATION_KEY, name);
+    }
+}
@@ -0,0 +1,102 @@
+package com.parkmate.authservice.common.redis;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증코드 발송(SEND_VERIFICATION)과 발송 취소(CANCEL_VERIFICATION) 스크립트
+ */
+class SendVerificationScriptTest extends RedisScriptTestSupport {
+
+    @Test
+    void 첫_발송은_코드를_등록한다() {
+        assertThat(send("d1", now)).containsExactly(1L, COOLDOWN, SEND_LIMIT - 1);
+
+        assertThat(field("digest")).isEqualTo("d1");
+        assertThat(field("codeExpiresAt")).isEqualTo(String.valueOf(now + CODE_TTL));
+        assertThat(field("sends")).isEqualTo("1");
+    }
+
+    @Test
+    void 재발송_대기_중이면_남은_시간을_돌려주고_코드를_바꾸지_않는다() {
+        send("d1", now);
+
+        assertThat(send("d2", now + 1_000)).containsExactly(-1L, COOLDOWN - 1_000, SEND_LIMIT - 1);
+        assertThat(field("digest")).isEqualTo("d1");
+    }
+
+    @Test
+    void 재발송해도_실패_횟수는_유지된다() {
+        send("d1", now);
+        verify("wrong", now + 1);
+
+        assertThat(send("d2", now + COOLDOWN).get(0)).isEqualTo(1L);
+        assertThat(field("attempts")).isEqualTo("1");
+    }
+
+    @Test
+    void 발송_한도를_넘으면_구간이_끝날_때까지_거절한다() {
+        for (int i = 0; i < SEND_LIMIT; i++) {
+            assertThat(send("d" + i, now + i * COOLDOWN).get(0)).isEqualTo(1L);
+        }
+
+        long later = now + SEND_LIMIT * COOLDOWN;
+        assertThat(send("dx", later)).containsExactly(-2L, now + SEND_WINDOW - later, 0L);
+    }
+
+    @Test
+    void 발송_한도_구간이_새로_시작되면_실패_횟수도_초기화된다() {
+        send("d1", now);
+        verify("wrong", now + 1);
+
+        assertThat(send("d2", now + SEND_WINDOW)).containsExactly(1L, COOLDOWN, SEND_LIMIT - 1);
+        assertThat(field("attempts")).isEqualTo("0");
+    }
+
+    @Test
+    void 차단_중이면_발송하지_않는다() {
+        send("d1", now);
+        blockVerification(now + 1);
+
+        List<Long> result = send("d2", now + COOLDOWN);
+
+        assertThat(result.get(0)).isEqualTo(-3L);
+        assertThat(result.get(1)).isEqualTo(now + 1 + BLOCK - (now + COOLDOWN));
+        assertThat(field("digest")).isEqualTo("d1");
+    }
+
+    @Test
+    void 취소하면_교체_전_코드와_발송_시각을_되돌린다() {
+        send("d1", now);
+        send("d2", now + COOLDOWN);
+
+        assertThat(cancel("d2")).isEqualTo(1L);
+
+        assertThat(field("digest")).isEqualTo("d1");
+        assertThat(field("codeExpiresAt")).isEqualTo(String.valueOf(now + CODE_TTL));
+        assertThat(field("lastSentAt")).isEqualTo(String.valueOf(now));
+        assertThat(field("sends")).isEqualTo("1");
+        assertThat(field("prevDigest")).isNull();
+    }
+
+    @Test
+    void 첫_코드를_취소하면_코드가_없어지고_바로_다시_보낼_수_있다() {
+        send("d1", now);
+
+        assertThat(cancel("d1")).isEqualTo(1L);
+
+        assertThat(field("digest")).isNull();
+        assertThat(field("sends")).isEqualTo("0");
+        assertThat(send("d2", now + 1).get(0)).isEqualTo(1L);
+    }
+
+    @Test
+    void 이미_바뀐_코드는_취소하지_않는다() {
+        send("d1", now);
+
+        assertThat(cancel("other")).isZero();
+        assertThat(field("digest")).isEqualTo("d1");
+    }
+}
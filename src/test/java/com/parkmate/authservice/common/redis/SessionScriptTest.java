@@ -0,0 +1,129 @@
+package com.parkmate.authservice.common.redis;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기기별 세션 저장(SAVE_SESSION)과 교체(ROTATE_SESSION) 스크립트
+ */
+class SessionScriptTest extends RedisScriptTestSupport {
+
+    private static final String SESSION_KEY = "session:user:user-uuid";
+    private static final String LOGIN_FAIL_KEY = "login:fail:user:a@parkmate.com";
+    private static final long SESSION_TTL = Duration.ofDays(7).toMillis();
+
+    @Test
+    void 기기_수_한도를_넘으면_가장_오래된_세션부터_제거한다() {
+        assertThat(save(2, "s1", "t1", now)).isZero();
+        assertThat(save(2, "s2", "t2", now + 1)).isZero();
+        assertThat(save(2, "s3", "t3", now + 2)).isEqualTo(1L);
+
+        assertThat(redisTemplate.opsForHash().keys(SESSION_KEY)).containsExactlyInAnyOrder("s2", "s3");
+    }
+
+    @Test
+    void 같은_세션을_다시_저장하면_한도에_세지_않는다() {
+        save(1, "s1", "t1", now);
+
+        assertThat(save(1, "s1", "t2", now + 1)).isZero();
+        assertThat(redisTemplate.opsForHash().get(SESSION_KEY, "s1")).isEqualTo(value("t2", now + 1, now + 1 + SESSION_TTL));
+    }
+
+    @Test
+    void 만료되었거나_형식이_틀린_세션은_저장할_때_정리한다() {
+        redisTemplate.opsForHash().put(SESSION_KEY, "expired", value("t0", now - 2, now - 1));
+        redisTemplate.opsForHash().put(SESSION_KEY, "broken", "garbage");
+
+        save(5, "s1", "t1", now);
+
+        assertThat(redisTemplate.opsForHash().keys(SESSION_KEY)).containsExactly("s1");
+    }
+
+    @Test
+    void 로그인_실패_카운터를_함께_지운다() {
+        redisTemplate.opsForValue().set(LOGIN_FAIL_KEY, "3");
+
+        redisTemplate.execute(
+                RedisScripts.SAVE_SESSION,
+                List.of(SESSION_KEY, LOGIN_FAIL_KEY),
+                "s1", value("t1", now, now + SESSION_TTL), String.valueOf(now), String.valueOf(now + SESSION_TTL), "5"
+        );
+
+        assertThat(redisTemplate.hasKey(LOGIN_FAIL_KEY)).isFalse();
+    }
+
+    @Test
+    void 키_만료는_가장_늦게_만료되는_세션에_맞춘다() {
+        save(5, "s1", "t1", now);
+        redisTemplate.execute(
+                RedisScripts.SAVE_SESSION,
+                List.of(SESSION_KEY),
+                "s2", value("t2", now, now + 60_000), String.valueOf(now), String.valueOf(now + 60_000), "5"
+        );
+
+        assertThat(redisTemplate.getExpire(SESSION_KEY, TimeUnit.MILLISECONDS)).isGreaterThan(SESSION_TTL - 60_000);
+    }
+
+    @Test
+    void 토큰이_일치하면_교체한다() {
+        save(5, "s1", "t1", now);
+        String rotated = value("t2", now + 1, now + 1 + SESSION_TTL);
+
+        assertThat(rotate("s1", "t1", rotated, now + 1)).isEqualTo(1L);
+        assertThat(redisTemplate.opsForHash().get(SESSION_KEY, "s1")).isEqualTo(rotated);
+    }
+
+    @Test
+    void 이미_교체된_토큰이면_세션을_폐기한다() {
+        save(5, "s1", "t1", now);
+        rotate("s1", "t1", value("t2", now + 1, now + 1 + SESSION_TTL), now + 1);
+
+        assertThat(rotate("s1", "t1", value("t3", now + 2, now + 2 + SESSION_TTL), now + 2)).isEqualTo(-1L);
+        assertThat(redisTemplate.opsForHash().hasKey(SESSION_KEY, "s1")).isFalse();
+    }
+
+    @Test
+    void 없거나_만료된_세션은_교체하지_않는다() {
+        assertThat(rotate("s1", "t1", value("t2", now, now + SESSION_TTL), now)).isZero();
+
+        save(5, "s1", "t1", now);
+        long expired = now + SESSION_TTL;
+        assertThat(rotate("s1", "t1", value("t2", expired, expired + SESSION_TTL), expired)).isZero();
+        assertThat(redisTemplate.opsForHash().hasKey(SESSION_KEY, "s1")).isFalse();
+    }
+
+    private Long save(int maxDevices, String sessionId, String token, long issuedAt) {
+        long expiresAt = issuedAt + SESSION_TTL;
+        return redisTemplate.execute(
+                RedisScripts.SAVE_SESSION,
+                List.of(SESSION_KEY),
+                sessionId,
+                value(token, issuedAt, expiresAt),
+                String.valueOf(issuedAt),
+                String.valueOf(expiresAt),
+                String.valueOf(maxDevices)
+        );
+    }
+
+    private Long rotate(String sessionId, String presentedToken, String newValue, long at) {
+        String newExpiresAt = newValue.substring(newValue.lastIndexOf('|') + 1);
+        return redisTemplate.execute(
+                RedisScripts.ROTATE_SESSION,
+                List.of(SESSION_KEY),
+                sessionId,
+                presentedToken,
+                newValue,
+                String.valueOf(at),
+                newExpiresAt
+        );
+    }
+
+    // 스크립트는 digest 를 문자열로만 비교하므로 테스트에서는 토큰 문자열을 digest 자리에 그대로 둔다
+    private static String value(String digest, long issuedAt, long expiresAt) {
+        return digest + "|" + issuedAt + "|" + expiresAt;
+    }
+}
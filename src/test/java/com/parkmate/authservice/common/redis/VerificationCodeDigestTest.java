@@ -0,0 +1,65 @@
+package com.parkmate.authservice.common.redis;
+
+import com.parkmate.authservice.common.config.SessionPolicyProperties;
+import com.parkmate.authservice.common.config.VerificationPolicyProperties;
+import com.parkmate.authservice.common.generator.DigestGenerator;
+import com.parkmate.authservice.common.roletype.RoleType;
+import org.junit.jupiter.api.Test;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인증코드는 원문이나 키 없는 해시가 아니라 서버 비밀키로 만든 HMAC 으로만 인증 Hash 에 저장된다
+ */
+class VerificationCodeDigestTest extends RedisScriptTestSupport {
+
+    private static final String EMAIL = "a@parkmate.com";
+    private static final byte[] SECRET = new byte[32];
+    private static final byte[] OTHER_SECRET = new byte[32];
+
+    static {
+        OTHER_SECRET[0] = 1;
+    }
+
+    @Test
+    void 인증_Hash_에는_키와_이메일로_만든_HMAC_만_남는다() {
+        redisService(SECRET).saveVerificationCode(EMAIL, "123456", RoleType.USER);
+
+        assertThat(field("digest"))
+                .isEqualTo(DigestGenerator.hmacSha256(SECRET, VERIFICATION_KEY + ":123456"))
+                .isNotEqualTo(DigestGenerator.sha256("123456"))
+                .doesNotContain("123456");
+    }
+
+    @Test
+    void 같은_키로만_코드를_확인할_수_있다() {
+        redisService(SECRET).saveVerificationCode(EMAIL, "123456", RoleType.USER);
+
+        assertThat(redisService(OTHER_SECRET).attemptVerification(EMAIL, "123456", RoleType.USER))
+                .isEqualTo(VerificationAttemptResult.MISMATCHED);
+        assertThat(redisService(SECRET).attemptVerification(EMAIL, "123456", RoleType.USER))
+                .isEqualTo(VerificationAttemptResult.MATCHED);
+        assertThat(redisService(SECRET).consumeVerificationCode(EMAIL, "123456", RoleType.USER)).isTrue();
+    }
+
+    @Test
+    void 비밀키가_없거나_32바이트보다_짧으면_기동에_실패한다() {
+        assertThatThrownBy(() -> redisService((String) null)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> redisService(Base64.getEncoder().encodeToString(new byte[31])))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private RedisService redisService(byte[] secret) {
+        return redisService(Base64.getEncoder().encodeToString(secret));
+    }
+
+    private RedisService redisService(String encodedSecret) {
+        VerificationPolicyProperties properties = new VerificationPolicyProperties();
+        properties.setCodeDigestSecret(encodedSecret);
+        RedisService redisService = new RedisService(redisTemplate, new SessionPolicyProperties(), properties);
+        redisService.loadCodeDigestSecret();
+        return redisService;
+    }
+}
@@ -0,0 +1,115 @@
+package com.parkmate.authservice.common.redis;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실패 카운터(INCREMENT_WITH_TTL)와 인증코드 확인·사용(VERIFY / CONSUME_VERIFICATION) 스크립트
+ */
+class VerificationScriptTest extends RedisScriptTestSupport {
+
+    private static final String LOGIN_FAIL_KEY = "login:fail:user:a@parkmate.com";
+
+    // ==================== 카운터 ====================
+
+    @Test
+    void 카운터는_증가한_값을_반환하고_TTL_을_건다() {
+        assertThat(increment(60_000, 0, 0)).isEqualTo(1L);
+        assertThat(increment(60_000, 0, 0)).isEqualTo(2L);
+
+        assertThat(redisTemplate.getExpire(LOGIN_FAIL_KEY, TimeUnit.MILLISECONDS)).isBetween(1L, 60_000L);
+    }
+
+    @Test
+    void 카운터가_한도에_도달하면_TTL_을_연장한다() {
+        increment(60_000, 2, 3_600_000);
+        increment(60_000, 2, 3_600_000);
+
+        assertThat(redisTemplate.getExpire(LOGIN_FAIL_KEY, TimeUnit.MILLISECONDS)).isGreaterThan(60_000L);
+    }
+
+    // ==================== 인증코드 확인 ====================
+
+    @Test
+    void 일치하면_실패_횟수를_초기화하고_코드는_남긴다() {
+        send("d1", now);
+        verify("wrong", now + 1);
+
+        assertThat(verify("d1", now + 2)).isZero();
+        assertThat(field("attempts")).isEqualTo("0");
+        assertThat(field("digest")).isEqualTo("d1");
+    }
+
+    @Test
+    void 만료된_코드는_불일치로_센다() {
+        send("d1", now);
+
+        assertThat(verify("d1", now + CODE_TTL)).isEqualTo(1L);
+    }
+
+    @Test
+    void 허용_횟수를_넘긴_실패는_그_시도부터_차단으로_응답한다() {
+        send("d1", now);
+        for (long i = 1; i <= ATTEMPT_LIMIT; i++) {
+            assertThat(verify("wrong", now + 1)).isEqualTo(i);
+        }
+        assertThat(field("blockedUntil")).isEqualTo("0");
+
+        assertThat(verify("wrong", now + 1)).isEqualTo(-1L);
+        assertThat(field("blockedUntil")).isEqualTo(String.valueOf(now + 1 + BLOCK));
+
+        // 차단 중에는 맞는 코드도 거절된다
+        assertThat(verify("d1", now + 2)).isEqualTo(-1L);
+    }
+
+    @Test
+    void 차단_시간이_지나면_실패_횟수부터_초기화한다() {
+        send("d1", now);
+        blockVerification(now + 1);
+
+        long afterBlock = now + 1 + BLOCK;
+        send("d2", afterBlock);
+
+        assertThat(verify("d2", afterBlock + 1)).isZero();
+        assertThat(field("attempts")).isEqualTo("0");
+    }
+
+    @Test
+    void 코드가_없는_키도_실패_횟수를_남긴다() {
+        assertThat(verify("wrong", now)).isEqualTo(1L);
+        assertThat(redisTemplate.getExpire(VERIFICATION_KEY, TimeUnit.MILLISECONDS)).isPositive();
+    }
+
+    // ==================== 인증코드 사용 ====================
+
+    @Test
+    void 사용한_코드는_다시_쓸_수_없다() {
+        send("d1", now);
+
+        assertThat(consume("d1", now + 1)).isEqualTo(1L);
+        assertThat(consume("d1", now + 2)).isZero();
+        assertThat(field("sends")).isEqualTo("1");
+    }
+
+    @Test
+    void 만료되었거나_차단_중이면_사용할_수_없다() {
+        send("d1", now);
+        assertThat(consume("d1", now + CODE_TTL)).isZero();
+
+        blockVerification(now + 1);
+        assertThat(consume("d1", now + 2)).isZero();
+    }
+
+    private Long increment(long ttl, long limit, long extendedTtl) {
+        return redisTemplate.execute(
+                RedisScripts.INCREMENT_WITH_TTL,
+                List.of(LOGIN_FAIL_KEY),
+                String.valueOf(ttl),
+                String.valueOf(limit),
+                String.valueOf(extendedTtl)
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.parkmate.authservice.common.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private final JwtSigningKey activeKey = JwtSigningKey.hmac("k2", secret('b'));
+    private final JwtSigningKey previousKey = JwtSigningKey.hmac("k1", secret('a'));
+
+    @Test
+    void kid_로_검증_키를_찾는다() {
+        JwtKeyRing keyRing = new JwtKeyRing(activeKey, List.of(previousKey));
+
+        assertThat(keyRing.findVerificationKey("k1")).isSameAs(previousKey);
+        assertThat(keyRing.findVerificationKey("k2")).isSameAs(activeKey);
+        assertThat(keyRing.size()).isEqualTo(2);
+    }
+
+    @Test
+    void kid_가_없는_토큰은_활성_키로_검증한다() {
+        JwtKeyRing keyRing = new JwtKeyRing(activeKey, List.of(previousKey));
+
+        assertThat(keyRing.findVerificationKey(null)).isSameAs(activeKey);
+    }
+
+    @Test
+    void 모르는_kid_는_활성_키로_대신하지_않는다() {
+        JwtKeyRing keyRing = new JwtKeyRing(activeKey, List.of(previousKey));
+
+        assertThat(keyRing.findVerificationKey("unknown")).isNull();
+    }
+
+    @Test
+    void 중복된_kid_는_허용하지_않는다() {
+        JwtSigningKey duplicatedKey = JwtSigningKey.hmac("k2", secret('c'));
+
+        assertThatThrownBy(() -> new JwtKeyRing(activeKey, List.of(duplicatedKey)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void JWKS_에는_비대칭_키만_공개한다() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        String publicKey = Base64.getEncoder().encodeToString(generator.generateKeyPair().getPublic().getEncoded());
+        JwtSigningKey ecdsaKey = JwtSigningKey.ecdsa("k3", null, publicKey);
+
+        JwtKeyRing keyRing = new JwtKeyRing(activeKey, List.of(previousKey, ecdsaKey));
+
+        assertThat(keyRing.getPublicJwks())
+                .singleElement()
+                .satisfies(jwk -> assertThat(jwk).containsEntry("kid", "k3").containsEntry("alg", "ES256"));
+    }
+
+    static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+    }
+}
@@ -0,0 +1,124 @@
+package com.parkmate.authservice.common.security.jwt;
+
+import com.parkmate.authservice.common.config.JwtCacheProperties;
+import com.parkmate.authservice.common.config.JwtSigningProperties;
+import com.parkmate.authservice.common.roletype.RoleType;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+
+import static com.parkmate.authservice.common.security.jwt.JwtKeyRingTest.secret;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키 링 기반 검증과 설정 변경(EnvironmentChangeEvent) 시 키 링 교체
+ */
+class JwtProviderTest {
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("jwt.secret-key", secret('a'))
+            .withProperty("jwt.signing.key-id", "k1");
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtCacheProperties cacheProperties = new JwtCacheProperties();
+        cacheProperties.setEnabled(true);
+        JwtSigningProperties signingProperties = new JwtSigningProperties();
+        signingProperties.setKeyId("k1");
+
+        jwtProvider = new JwtProvider(new JwtTokenCache(cacheProperties, new SimpleMeterRegistry()), signingProperties, environment);
+        ReflectionTestUtils.setField(jwtProvider, "secretKey", secret('a'));
+        ReflectionTestUtils.setField(jwtProvider, "accessTokenValidityInMs", 60_000L);
+        ReflectionTestUtils.setField(jwtProvider, "refreshTokenValidityInMs", 120_000L);
+        jwtProvider.init();
+    }
+
+    @Test
+    void 활성_키의_kid_를_헤더에_담아_발급하고_검증한다() {
+        String token = jwtProvider.generateAccessToken("user-uuid", RoleType.USER);
+
+        assertThat(keyId(token)).isEqualTo("k1");
+        assertThat(jwtProvider.extractSubject(token)).isEqualTo("user-uuid");
+    }
+
+    @Test
+    void kid_가_없는_기존_토큰은_활성_키로_검증한다() {
+        String legacyToken = Jwts.builder()
+                .setSubject("user-uuid")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret('a'))), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(jwtProvider.validateToken(legacyToken)).isTrue();
+    }
+
+    @Test
+    void 설정이_바뀌면_새_키로_서명하고_이전_키로_발급한_토큰도_검증한다() {
+        String oldToken = jwtProvider.generateAccessToken("user-uuid", RoleType.USER);
+
+        rotateTo("k2", secret('b'), "k1", secret('a'));
+
+        String newToken = jwtProvider.generateAccessToken("user-uuid", RoleType.USER);
+        assertThat(keyId(newToken)).isEqualTo("k2");
+        assertThat(jwtProvider.validateToken(newToken)).isTrue();
+        assertThat(jwtProvider.validateToken(oldToken)).isTrue();
+    }
+
+    @Test
+    void 검증_키에서_빠진_kid_의_토큰은_캐시에_있어도_거절한다() {
+        String oldToken = jwtProvider.generateAccessToken("user-uuid", RoleType.USER);
+        assertThat(jwtProvider.validateToken(oldToken)).isTrue();
+
+        rotateTo("k2", secret('b'), "k1", secret('a'));
+        rotateTo("k3", secret('c'), "k2", secret('b'));
+
+        assertThat(jwtProvider.validateToken(oldToken)).isFalse();
+    }
+
+    @Test
+    void 새_설정이_잘못되면_기존_키_링을_유지한다() {
+        environment.setProperty("jwt.signing.algorithm", "ES256");
+        jwtProvider.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("jwt.signing.algorithm")));
+
+        String token = jwtProvider.generateAccessToken("user-uuid", RoleType.USER);
+        assertThat(keyId(token)).isEqualTo("k1");
+        assertThat(jwtProvider.validateToken(token)).isTrue();
+    }
+
+    @Test
+    void jwt_설정이_아닌_키가_바뀌면_다시_읽지_않는다() {
+        environment.setProperty("jwt.signing.key-id", "k2");
+        environment.setProperty("jwt.secret-key", secret('b'));
+        jwtProvider.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("spring.mail.host")));
+
+        assertThat(keyId(jwtProvider.generateAccessToken("user-uuid", RoleType.USER))).isEqualTo("k1");
+    }
+
+    /**
+     * 새 키를 활성 키로, 직전 키를 검증 전용 키로 옮긴다 (그보다 오래된 키는 빠진다)
+     */
+    private void rotateTo(String keyId, String secretKey, String previousKeyId, String previousSecretKey) {
+        environment.setProperty("jwt.signing.key-id", keyId);
+        environment.setProperty("jwt.secret-key", secretKey);
+        environment.setProperty("jwt.signing.verification-keys[0].key-id", previousKeyId);
+        environment.setProperty("jwt.signing.verification-keys[0].secret-key", previousSecretKey);
+        jwtProvider.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("jwt.signing.key-id", "jwt.secret-key")));
+    }
+
+    private static String keyId(String token) {
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+        return header.replaceAll(".*\"kid\":\"([^\"]+)\".*", "$1");
+    }
+}
@@ -0,0 +1,182 @@
+package com.parkmate.authservice.common.security.password;
+
+import com.parkmate.authservice.common.config.PasswordHashingProperties;
+import com.parkmate.authservice.common.exception.BaseException;
+import com.parkmate.authservice.common.response.ResponseStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingEncoder delegate = new BlockingEncoder();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        delegate.release();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void 해싱과_검증은_위임_인코더의_결과를_돌려준다() {
+        delegate.release();
+        encoder = encoder(Duration.ofSeconds(5));
+
+        assertThat(encoder.encode("pw")).isEqualTo("hash:pw");
+        assertThat(encoder.matches("pw", "hash:pw")).isTrue();
+        assertThat(rejected()).isZero();
+    }
+
+    @Test
+    void 대기열이_가득_차면_즉시_거절한다() {
+        encoder = encoder(Duration.ofSeconds(5));
+
+        // 스레드 1개는 해싱 중, 대기열 1칸은 다음 작업으로 채운다
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        await().until(delegate::isEntered);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        await().until(() -> meterRegistry.get("auth.hashing.queue.size").gauge().value() == 1);
+
+        assertBusy(() -> encoder.encode("c"));
+        assertThat(rejected()).isEqualTo(1);
+
+        delegate.release();
+        assertThat(running.join()).isEqualTo("hash:a");
+        assertThat(queued.join()).isEqualTo("hash:b");
+    }
+
+    @Test
+    void 대기_시간을_넘기면_거절한다() {
+        encoder = encoder(Duration.ofMillis(100));
+
+        assertBusy(() -> encoder.encode("a"));
+        assertThat(rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void 기다리는_중_인터럽트되면_거절하고_인터럽트_상태를_유지한다() {
+        encoder = encoder(Duration.ofSeconds(5));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertBusy(() -> encoder.encode("a"));
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void 위임_인코더의_예외는_그대로_전달한다() {
+        encoder = new BoundedPasswordEncoder(new FailingEncoder(), properties(Duration.ofSeconds(5)), meterRegistry);
+
+        assertThatThrownBy(() -> encoder.encode("a"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad input");
+        assertThat(rejected()).isZero();
+    }
+
+    @Test
+    void 백그라운드_대기열이_가득_차면_즉시_거절하고_로그인_풀은_영향받지_않는다() {
+        encoder = encoder(Duration.ofSeconds(5));
+
+        CompletableFuture<String> running = encoder.encodeAsync("a");
+        await().until(delegate::isEntered);
+        CompletableFuture<String> queued = encoder.encodeAsync("b");
+
+        assertBusy(() -> encoder.encodeAsync("c"));
+        assertThat(rejected()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.hashing.active").gauge().value()).isZero();
+
+        delegate.release();
+        assertThat(running.join()).isEqualTo("hash:a");
+        assertThat(queued.join()).isEqualTo("hash:b");
+    }
+
+    private BoundedPasswordEncoder encoder(Duration waitTimeout) {
+        return new BoundedPasswordEncoder(delegate, properties(waitTimeout), meterRegistry);
+    }
+
+    private static PasswordHashingProperties properties(Duration waitTimeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setBackgroundPoolSize(1);
+        properties.setBackgroundQueueCapacity(1);
+        properties.setWaitTimeout(waitTimeout);
+        return properties;
+    }
+
+    private double rejected() {
+        return meterRegistry.get("auth.hashing.rejected").counter().count();
+    }
+
+    private static void assertBusy(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(BaseException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.AUTH_HASHING_BUSY));
+    }
+
+    /**
+     * release() 전까지 해싱을 붙잡아 두는 인코더
+     */
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            entered.countDown();
+            try {
+                if (!released.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("테스트가 인코더를 풀어 주지 않았습니다.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+
+        boolean isEntered() {
+            return entered.getCount() == 0;
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+
+    private static class FailingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new IllegalArgumentException("bad input");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            throw new IllegalArgumentException("bad input");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.parkmate.authservice.common.security.revocation;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void 넣은_값은_항상_있을_수_있음으로_응답한다() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> inserted = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String tokenId = UUID.randomUUID().toString();
+            inserted.add(tokenId);
+            filter.put(tokenId);
+        }
+
+        assertThat(inserted).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void 오탐률은_설정값_근처에_머문다() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void 빈_필터는_아무것도_포함하지_않는다() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertThat(filter.mightContain("jti-1")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void FNV_1a_해시는_공개된_테스트_벡터와_같다() {
+        assertThat(BloomFilter.fnv1a64("")).isEqualTo(0xcbf29ce484222325L);
+        assertThat(BloomFilter.fnv1a64("a")).isEqualTo(0xaf63dc4c8601ec8cL);
+        assertThat(BloomFilter.fnv1a64("foobar")).isEqualTo(0x85944171f73967e8L);
+    }
+
+    @Test
+    void fmix64_결과는_고정되어_있다() {
+        assertThat(BloomFilter.mix(0L)).isZero();
+        assertThat(BloomFilter.mix(1L)).isEqualTo(0x1aa07d7be346fc1fL);
+        assertThat(BloomFilter.mix(0xcbf29ce484222325L)).isEqualTo(0xad8cb76b94d3c433L);
+    }
+
+    @Test
+    void 잘못된_크기나_확률이면_생성에_실패한다() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
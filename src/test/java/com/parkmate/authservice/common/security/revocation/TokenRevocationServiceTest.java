@@ -0,0 +1,142 @@
+package com.parkmate.authservice.common.security.revocation;
+
+import com.parkmate.authservice.common.config.TokenRevocationProperties;
+import com.parkmate.authservice.common.security.jwt.JwtClaims;
+import com.parkmate.authservice.common.security.jwt.JwtProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final String REVOKED_KEY_PREFIX = "revoked:jti:";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        TokenRevocationProperties properties = new TokenRevocationProperties();
+        properties.setExpectedInsertions(1_000);
+        tokenRevocationService = new TokenRevocationService(redisTemplate, jwtProvider, properties);
+    }
+
+    @Test
+    void 첫_재구성_전에는_필터를_믿지_않고_Redis_로_확인한다() {
+        when(redisTemplate.hasKey(REVOKED_KEY_PREFIX + "jti-1")).thenReturn(true);
+
+        assertThat(tokenRevocationService.isRevoked(claims("jti-1"))).isTrue();
+        verify(redisTemplate).hasKey(REVOKED_KEY_PREFIX + "jti-1");
+    }
+
+    @Test
+    void 재구성_후_필터에_없는_토큰은_Redis_를_거치지_않는다() {
+        givenScanResult();
+        tokenRevocationService.rebuild();
+
+        assertThat(tokenRevocationService.isRevoked(claims("jti-1"))).isFalse();
+        verify(redisTemplate, never()).hasKey(any());
+    }
+
+    @Test
+    void 재구성_때_읽은_폐기_토큰은_Redis_로_확인한다() {
+        givenScanResult(REVOKED_KEY_PREFIX + "jti-1");
+        tokenRevocationService.rebuild();
+        when(redisTemplate.hasKey(REVOKED_KEY_PREFIX + "jti-1")).thenReturn(true);
+
+        assertThat(tokenRevocationService.isRevoked(claims("jti-1"))).isTrue();
+    }
+
+    @Test
+    void 다른_노드의_폐기_이벤트는_필터에_반영된다() {
+        givenScanResult();
+        tokenRevocationService.rebuild();
+        when(redisTemplate.hasKey(REVOKED_KEY_PREFIX + "jti-2")).thenReturn(true);
+
+        tokenRevocationService.onMessage(message("jti-2"), null);
+
+        assertThat(tokenRevocationService.isRevoked(claims("jti-2"))).isTrue();
+    }
+
+    @Test
+    void Redis_장애_시_동기화_전에는_통과시키고_동기화_후에는_필터가_의심한_토큰만_차단한다() {
+        when(redisTemplate.hasKey(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(tokenRevocationService.isRevoked(claims("jti-1"))).isFalse();
+
+        givenScanResult(REVOKED_KEY_PREFIX + "jti-1");
+        tokenRevocationService.rebuild();
+
+        assertThat(tokenRevocationService.isRevoked(claims("jti-1"))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(claims("jti-3"))).isFalse();
+    }
+
+    @Test
+    void 재구성에_실패하면_동기화되지_않은_상태로_남는다() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new QueryTimeoutException("timeout"));
+        tokenRevocationService.rebuild();
+        when(redisTemplate.hasKey(REVOKED_KEY_PREFIX + "jti-1")).thenReturn(false);
+
+        assertThat(tokenRevocationService.isRevoked(claims("jti-1"))).isFalse();
+        verify(redisTemplate).hasKey(REVOKED_KEY_PREFIX + "jti-1");
+    }
+
+    @Test
+    void jti_가_없는_토큰은_폐기_대상이_아니다() {
+        assertThat(tokenRevocationService.isRevoked(claims(null))).isFalse();
+        verify(redisTemplate, never()).hasKey(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScanResult(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        if (keys.length == 0) {
+            when(cursor.hasNext()).thenReturn(false);
+        } else {
+            Boolean[] remaining = new Boolean[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                remaining[i] = i < keys.length - 1;
+            }
+            when(cursor.hasNext()).thenReturn(true, remaining);
+            String[] rest = new String[keys.length - 1];
+            System.arraycopy(keys, 1, rest, 0, rest.length);
+            when(cursor.next()).thenReturn(keys[0], rest);
+        }
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+
+    private static JwtClaims claims(String tokenId) {
+        return JwtClaims.builder()
+                .subject("user-uuid")
+                .tokenId(tokenId)
+                .build();
+    }
+
+    private static DefaultMessage message(String tokenId) {
+        return new DefaultMessage(
+                TokenRevocationService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                tokenId.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,288 @@
+package com.parkmate.authservice.outbox.application;
+
+import com.parkmate.authservice.common.config.OutboxProperties;
+import com.parkmate.authservice.outbox.domain.OutboxEvent;
+import com.parkmate.authservice.outbox.domain.OutboxEventType;
+import com.parkmate.authservice.outbox.domain.OutboxStatus;
+import com.parkmate.authservice.outbox.infrastructure.OutboxEventRepository;
+import feign.FeignException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventDispatcher outboxEventDispatcher;
+
+    private final OutboxProperties outboxProperties = new OutboxProperties();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxEventDispatcher, outboxProperties, new ImmediateTransactionTemplate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRelay.destroy();
+    }
+
+    @Test
+    void 전송에_성공하면_SENT_로_기록한다() {
+        OutboxEvent outboxEvent = event(1L, 0);
+
+        relay(outboxEvent);
+
+        verify(outboxEventDispatcher).dispatch(outboxEvent);
+        verify(outboxEventRepository).updateStatus(List.of(1L), OutboxStatus.SENT);
+        assertThat(outboxEvent.getAttempts()).isEqualTo(1);
+    }
+
+    // -1 은 응답을 받지 못한 연결 실패
+    @ParameterizedTest
+    @ValueSource(ints = {408, 425, 429, 500, 502, 503, -1})
+    void 일시적인_실패는_백오프_후_다시_보낸다(int status) {
+        OutboxEvent outboxEvent = event(1L, 0);
+        doThrow(new StatusException(status)).when(outboxEventDispatcher).dispatch(outboxEvent);
+
+        LocalDateTime before = LocalDateTime.now();
+        relay(outboxEvent);
+
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outboxEvent.getLastError()).startsWith("StatusException");
+        assertThat(outboxEvent.getNextAttemptAt())
+                .isBetween(before.plus(outboxProperties.getInitialBackoff()), LocalDateTime.now().plus(outboxProperties.getInitialBackoff()));
+        verify(outboxEventRepository, never()).updateStatus(anyList(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {400, 401, 403, 404, 409, 422})
+    void 다시_보내도_같은_4xx_는_바로_FAILED_로_남긴다(int status) {
+        OutboxEvent outboxEvent = event(1L, 0);
+        doThrow(new StatusException(status)).when(outboxEventDispatcher).dispatch(outboxEvent);
+
+        relay(outboxEvent);
+
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outboxEvent.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void 읽을_수_없는_payload_는_바로_FAILED_로_남긴다() {
+        OutboxEvent outboxEvent = event(1L, 0);
+        doThrow(new OutboxPayloadException("bad payload", null)).when(outboxEventDispatcher).dispatch(outboxEvent);
+
+        relay(outboxEvent);
+
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outboxEvent.getLastError()).isEqualTo("OutboxPayloadException: bad payload");
+    }
+
+    @Test
+    void 그_밖의_예외는_일시적인_실패로_본다() {
+        OutboxEvent outboxEvent = event(1L, 0);
+        doThrow(new IllegalStateException("connection reset")).when(outboxEventDispatcher).dispatch(outboxEvent);
+
+        relay(outboxEvent);
+
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    void 일시적인_실패라도_최대_시도_횟수에_도달하면_FAILED_로_남긴다() {
+        OutboxEvent outboxEvent = event(1L, outboxProperties.getMaxAttempts() - 1);
+        doThrow(new StatusException(503)).when(outboxEventDispatcher).dispatch(outboxEvent);
+
+        relay(outboxEvent);
+
+        assertThat(outboxEvent.getAttempts()).isEqualTo(outboxProperties.getMaxAttempts());
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.FAILED);
+    }
+
+    // ==================== 재시도 간격 ====================
+
+    @Test
+    void 재시도_간격은_시도할_때마다_두_배로_늘어난다() {
+        OutboxEvent outboxEvent = event(1L, 2);
+        doThrow(new StatusException(503)).when(outboxEventDispatcher).dispatch(outboxEvent);
+
+        LocalDateTime before = LocalDateTime.now();
+        relay(outboxEvent);
+
+        // 세 번째 시도 실패 → initialBackoff * 2^2
+        Duration expected = outboxProperties.getInitialBackoff().multipliedBy(4);
+        assertThat(outboxEvent.getNextAttemptAt()).isBetween(before.plus(expected), LocalDateTime.now().plus(expected));
+    }
+
+    @Test
+    void 재시도_간격은_maxBackoff_를_넘지_않는다() {
+        outboxProperties.setMaxAttempts(100);
+        OutboxEvent outboxEvent = event(1L, 40);
+        doThrow(new StatusException(503)).when(outboxEventDispatcher).dispatch(outboxEvent);
+
+        LocalDateTime before = LocalDateTime.now();
+        relay(outboxEvent);
+
+        Duration maxBackoff = outboxProperties.getMaxBackoff();
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outboxEvent.getNextAttemptAt()).isBetween(before.plus(maxBackoff), LocalDateTime.now().plus(maxBackoff));
+    }
+
+    // ==================== 배치 전송 ====================
+
+    @Test
+    void 묶음이_덜_찼고_linger_가_지나지_않았으면_점유하지_않고_다음_주기를_기다린다() {
+        enableBatch(100);
+        OutboxEvent outboxEvent = event(1L, 0);
+
+        relay(outboxEvent);
+
+        assertThat(outboxEvent.getAttempts()).isZero();
+        verifyNoInteractions(outboxEventDispatcher);
+    }
+
+    @Test
+    void 가장_오래된_이벤트가_linger_를_넘기면_덜_찬_묶음도_보낸다() {
+        enableBatch(100);
+        OutboxEvent outboxEvent = event(1L, 0);
+        ReflectionTestUtils.setField(outboxEvent, "nextAttemptAt", LocalDateTime.now().minus(outboxProperties.getLinger()).minusSeconds(1));
+        when(outboxEventDispatcher.dispatchBatch(OutboxEventType.USER_REGISTERED, List.of(outboxEvent))).thenReturn(Map.of());
+
+        relay(outboxEvent);
+
+        verify(outboxEventRepository).updateStatus(List.of(1L), OutboxStatus.SENT);
+    }
+
+    @Test
+    void 묶음이_가득_차면_linger_없이_바로_보낸다() {
+        enableBatch(1);
+        OutboxEvent outboxEvent = event(1L, 0);
+        when(outboxEventDispatcher.dispatchBatch(OutboxEventType.USER_REGISTERED, List.of(outboxEvent))).thenReturn(Map.of());
+
+        relay(outboxEvent);
+
+        verify(outboxEventRepository).updateStatus(List.of(1L), OutboxStatus.SENT);
+    }
+
+    @Test
+    void 이미_실패한_적_있는_이벤트는_묶음에서_빼고_단건으로_보낸다() {
+        enableBatch(2);
+        OutboxEvent first = event(1L, 0);
+        OutboxEvent retried = event(2L, 1);
+        when(outboxEventDispatcher.dispatchBatch(OutboxEventType.USER_REGISTERED, List.of(first))).thenReturn(Map.of());
+
+        relay(first, retried);
+
+        verify(outboxEventDispatcher).dispatch(retried);
+        verify(outboxEventDispatcher, never()).dispatch(first);
+        verify(outboxEventRepository).updateStatus(List.of(1L, 2L), OutboxStatus.SENT);
+    }
+
+    @Test
+    void 묶음_안에서_거절된_이벤트만_재시도_대상으로_남긴다() {
+        enableBatch(2);
+        OutboxEvent rejected = event(1L, 0);
+        OutboxEvent accepted = event(2L, 0);
+        when(outboxEventDispatcher.dispatchBatch(OutboxEventType.USER_REGISTERED, List.of(rejected, accepted)))
+                .thenReturn(Map.of("event-1", "수신 측에서 처리하지 못한 이벤트"));
+
+        relay(rejected, accepted);
+
+        assertThat(rejected.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(rejected.getLastError()).isEqualTo("수신 측에서 처리하지 못한 이벤트");
+        verify(outboxEventRepository).updateStatus(List.of(2L), OutboxStatus.SENT);
+    }
+
+    @Test
+    void 묶음_요청이_4xx_로_실패해도_바로_FAILED_로_두지_않고_단건_재시도로_넘긴다() {
+        enableBatch(2);
+        OutboxEvent first = event(1L, 0);
+        OutboxEvent second = event(2L, 0);
+        when(outboxEventDispatcher.dispatchBatch(OutboxEventType.USER_REGISTERED, List.of(first, second)))
+                .thenThrow(new StatusException(400));
+
+        relay(first, second);
+
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(second.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+    }
+
+    private void enableBatch(int batchSize) {
+        outboxProperties.setBatchEnabled(true);
+        outboxProperties.setBatchSize(batchSize);
+    }
+
+    /**
+     * 점유 시 attempts 가 1 늘어나므로, previousAttempts 는 이번 주기 전까지 이미 시도한 횟수
+     */
+    private OutboxEvent event(long id, int previousAttempts) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .eventId("event-" + id)
+                .eventType(OutboxEventType.USER_REGISTERED)
+                .aggregateUuid("uuid-" + id)
+                .payload("{}")
+                .build();
+        ReflectionTestUtils.setField(outboxEvent, "id", id);
+        ReflectionTestUtils.setField(outboxEvent, "attempts", previousAttempts);
+        return outboxEvent;
+    }
+
+    private void relay(OutboxEvent... outboxEvents) {
+        when(outboxEventRepository.findDueForUpdate(eq(OutboxStatus.PENDING), any(), any()))
+                .thenReturn(List.of(outboxEvents), List.of());
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            // 성공한 이벤트는 조회하지 않으므로 lenient
+            lenient().when(outboxEventRepository.findById(outboxEvent.getId())).thenReturn(Optional.of(outboxEvent));
+        }
+        outboxRelay.relay();
+    }
+
+    /**
+     * 트랜잭션 없이 콜백만 바로 실행
+     */
+    private static class ImmediateTransactionTemplate extends TransactionTemplate {
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            return action.doInTransaction(null);
+        }
+    }
+
+    private static class StatusException extends FeignException {
+
+        StatusException(int status) {
+            super(status, "status " + status);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.parkmate.authservice.outbox.infrastructure;
+
+import com.parkmate.authservice.outbox.domain.OutboxEvent;
+import com.parkmate.authservice.outbox.domain.OutboxEventType;
+import com.parkmate.authservice.outbox.domain.OutboxStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * deleteSentBefore 는 MySQL 전용 DELETE ... LIMIT 이라 실제 MySQL 에서 확인한다 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OutboxEventRepositoryTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Test
+    void 기준_시각_이전의_SENT_이벤트만_지운다() {
+        OutboxEvent oldSent = save(before.minusMinutes(1), OutboxStatus.SENT);
+        OutboxEvent recentSent = save(before.plusMinutes(1), OutboxStatus.SENT);
+        OutboxEvent oldPending = save(before.minusMinutes(1), OutboxStatus.PENDING);
+        OutboxEvent oldFailed = save(before.minusMinutes(1), OutboxStatus.FAILED);
+
+        assertThat(outboxEventRepository.deleteSentBefore(before, 100)).isEqualTo(1);
+
+        entityManager.clear();
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getId)
+                .containsExactlyInAnyOrder(recentSent.getId(), oldPending.getId(), oldFailed.getId())
+                .doesNotContain(oldSent.getId());
+    }
+
+    @Test
+    void 한_번에_limit_건까지만_지운다() {
+        for (int i = 0; i < 3; i++) {
+            save(before.minusMinutes(i + 1), OutboxStatus.SENT);
+        }
+
+        assertThat(outboxEventRepository.deleteSentBefore(before, 2)).isEqualTo(2);
+        assertThat(outboxEventRepository.deleteSentBefore(before, 2)).isEqualTo(1);
+        assertThat(outboxEventRepository.deleteSentBefore(before, 2)).isZero();
+    }
+
+    /**
+     * 점유 시각(nextAttemptAt)을 at 으로 남긴 뒤 status 로 결과를 기록한 이벤트
+     */
+    private OutboxEvent save(LocalDateTime at, OutboxStatus status) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(OutboxEventType.USER_REGISTERED)
+                .aggregateUuid(UUID.randomUUID().toString())
+                .payload("{}")
+                .build();
+        outboxEvent.claim(at);
+        if (status == OutboxStatus.FAILED) {
+            outboxEvent.markFailed("permanent");
+        }
+        entityManager.persistAndFlush(outboxEvent);
+        if (status == OutboxStatus.SENT) {
+            outboxEventRepository.updateStatus(List.of(outboxEvent.getId()), OutboxStatus.SENT);
+        }
+        return outboxEvent;
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = OutboxEvent.class)
+    @EnableJpaRepositories(basePackageClasses = OutboxEventRepository.class)
+    static class JpaTestConfig {
+    }
+}